@@ -29,7 +29,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 
 import java.sql.Timestamp;
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.Calendar;
@@ -38,7 +38,11 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -76,27 +80,28 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
   private static final String DATE_FORMAT_SHOULD_NOT_BE_NULL = "Given date format should not be null";
 
   /**
-   * the default DateFormat used to parse any String date representation.
+   * the default DateFormats used to parse any String date representation, DateFormat not being thread safe, each parsing
+   * takes a list of default DateFormats from this pool (or creates one) and gives it back once done.
    */
-  private static List<DateFormat> DEFAULT_DATE_FORMATS = defaultDateFormats();
-  private static boolean lenientParsing = Configuration.LENIENT_DATE_PARSING;
+  private static final Queue<List<DateFormat>> DEFAULT_DATE_FORMATS = new ConcurrentLinkedQueue<>();
+  private static volatile boolean lenientParsing = Configuration.LENIENT_DATE_PARSING;
+  private static final int MAX_CACHED_PARSED_DATES = 1024;
+  // the dates parsed with the default DateFormats, replaced when the default timezone or the lenient flag changes
+  private static volatile ParsedDates parsedDates = new ParsedDates(TimeZone.getDefault().getID(), lenientParsing);
 
   @VisibleForTesting
   static List<DateFormat> defaultDateFormats() {
-    if (DEFAULT_DATE_FORMATS == null || defaultDateFormatMustBeRecreated()) {
-      DEFAULT_DATE_FORMATS = list(newIsoDateTimeWithMsAndIsoTimeZoneFormat(lenientParsing),
-                                  newIsoDateTimeWithMsFormat(lenientParsing),
-                                  newTimestampDateFormat(lenientParsing),
-                                  newIsoDateTimeWithIsoTimeZoneFormat(lenientParsing),
-                                  newIsoDateTimeFormat(lenientParsing),
-                                  newIsoDateFormat(lenientParsing));
-    }
-    return DEFAULT_DATE_FORMATS;
+    return list(newIsoDateTimeWithMsAndIsoTimeZoneFormat(lenientParsing),
+                newIsoDateTimeWithMsFormat(lenientParsing),
+                newTimestampDateFormat(lenientParsing),
+                newIsoDateTimeWithIsoTimeZoneFormat(lenientParsing),
+                newIsoDateTimeFormat(lenientParsing),
+                newIsoDateFormat(lenientParsing));
   }
 
-  private static boolean defaultDateFormatMustBeRecreated() {
+  private static boolean defaultDateFormatsMustBeRecreated(List<DateFormat> dateFormats) {
     // check default timezone or lenient flag changes, only check one date format since all are configured the same way
-    DateFormat dateFormat = DEFAULT_DATE_FORMATS.get(0);
+    DateFormat dateFormat = dateFormats.get(0);
     return !dateFormat.getTimeZone().getID().equals(TimeZone.getDefault().getID()) || dateFormat.isLenient() != lenientParsing;
   }
 
@@ -3600,8 +3605,29 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
                                            info.representation().toStringOf(dateFormatsInOrderOfUsage())));
   }
 
-  private synchronized Date parseDateWithDefaultDateFormats(final String dateAsString) {
-    return parseDateWith(dateAsString, defaultDateFormats());
+  private static Date parseDateWithDefaultDateFormats(final String dateAsString) {
+    ParsedDates currentParsedDates = currentParsedDates();
+    Long parsedTime = currentParsedDates.timesByDateAsString.get(dateAsString);
+    if (parsedTime != null) return new Date(parsedTime);
+    List<DateFormat> dateFormats = DEFAULT_DATE_FORMATS.poll();
+    if (dateFormats == null || defaultDateFormatsMustBeRecreated(dateFormats)) dateFormats = defaultDateFormats();
+    try {
+      Date date = parseDateWith(dateAsString, dateFormats);
+      if (date != null) currentParsedDates.add(dateAsString, date.getTime());
+      return date;
+    } finally {
+      DEFAULT_DATE_FORMATS.offer(dateFormats);
+    }
+  }
+
+  private static ParsedDates currentParsedDates() {
+    ParsedDates currentParsedDates = parsedDates;
+    String timeZoneId = TimeZone.getDefault().getID();
+    boolean lenient = lenientParsing;
+    if (currentParsedDates.timeZoneId.equals(timeZoneId) && currentParsedDates.lenient == lenient) return currentParsedDates;
+    currentParsedDates = new ParsedDates(timeZoneId, lenient);
+    parsedDates = currentParsedDates;
+    return currentParsedDates;
   }
 
   private List<DateFormat> dateFormatsInOrderOfUsage() {
@@ -3610,17 +3636,38 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
     return allDateFormatsInOrderOfUsage;
   }
 
-  private Date parseDateWith(final String dateAsString, final Collection<DateFormat> dateFormats) {
-    for (DateFormat defaultDateFormat : dateFormats) {
-      try {
-        return defaultDateFormat.parse(dateAsString);
-      } catch (@SuppressWarnings("unused") ParseException e) {
-        // ignore and try next date format
-      }
+  private static Date parseDateWith(final String dateAsString, final Collection<DateFormat> dateFormats) {
+    for (DateFormat dateFormat : dateFormats) {
+      // same as DateFormat.parse(String) but without throwing a ParseException when the date format does not match
+      ParsePosition parsePosition = new ParsePosition(0);
+      Date date = dateFormat.parse(dateAsString, parsePosition);
+      if (parsePosition.getIndex() != 0) return date;
+      // try next date format
     }
     return null;
   }
 
+  /**
+   * The times of the dates parsed with the default DateFormats, tests usually parse the same few dates over and over.
+   */
+  private static final class ParsedDates {
+
+    private final String timeZoneId;
+    private final boolean lenient;
+    private final Map<String, Long> timesByDateAsString = new ConcurrentHashMap<>();
+
+    private ParsedDates(String timeZoneId, boolean lenient) {
+      this.timeZoneId = timeZoneId;
+      this.lenient = lenient;
+    }
+
+    private void add(String dateAsString, long time) {
+      // start over rather than tracking the least recently parsed dates, the cache is only full with many distinct dates
+      if (timesByDateAsString.size() >= MAX_CACHED_PARSED_DATES) timesByDateAsString.clear();
+      timesByDateAsString.put(dateAsString, time);
+    }
+  }
+
   private static <T> Date[] toDateArray(T[] values, Function<T, Date> converter) {
     Date[] dates = new Date[values.length];
     for (int i = 0; i < values.length; i++) {
@@ -17,6 +17,7 @@ import static net.bytebuddy.matcher.ElementMatchers.not;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.AssumptionExceptionFactory.assumptionNotMet;
 import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrategy;
+import static org.assertj.core.api.PregeneratedProxyClasses.ASSUMPTION_SUFFIX;
 import static org.assertj.core.api.SoftProxies.METHODS_NOT_TO_PROXY;
 import static org.assertj.core.util.Arrays.array;
 
@@ -88,6 +89,9 @@ import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.TypeCache;
 import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodDelegation;
@@ -107,8 +111,7 @@ public class Assumptions {
    * This NamingStrategy takes the original class's name and adds a suffix to distinguish it.
    * The default is ByteBuddy but for debugging purposes, it makes sense to add AssertJ as a name.
    */
-  private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(TypeValidation.DISABLED)
-                                                             .with(new AuxiliaryType.NamingStrategy.SuffixingRandom("Assertj$Assumptions"));
+  private static final ByteBuddy BYTE_BUDDY = configure(new ByteBuddy());
 
   private static final Implementation ASSUMPTION = MethodDelegation.to(AssumptionMethodInterceptor.class);
 
@@ -1588,17 +1591,35 @@ public class Assumptions {
     SimpleKey cacheKey = new SimpleKey(assertClass);
     return (Class<ASSERTION>) CACHE.findOrInsert(assertClass.getClassLoader(),
                                                  cacheKey,
-                                                 () -> generateAssumptionClass(assertClass));
+                                                 () -> findOrGenerateAssumptionClass(assertClass));
   }
 
+  private static <ASSERTION> Class<? extends ASSERTION> findOrGenerateAssumptionClass(Class<ASSERTION> assertClass) {
+    Class<? extends ASSERTION> pregeneratedAssumptionClass = PregeneratedProxyClasses.find(assertClass, ASSUMPTION_SUFFIX);
+    return pregeneratedAssumptionClass != null ? pregeneratedAssumptionClass : generateAssumptionClass(assertClass);
+  }
+
+  @SuppressWarnings("unchecked")
   protected static <ASSERTION> Class<? extends ASSERTION> generateAssumptionClass(Class<ASSERTION> assertionType) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertionType);
-    return BYTE_BUDDY.subclass(assertionType)
-                     .method(any().and(not(METHODS_NOT_TO_PROXY)))
-                     .intercept(ASSUMPTION)
-                     .make()
-                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
-                     .getLoaded();
+    DynamicType.Builder<?> assumptionClassBuilder = assumptionClassBuilder(BYTE_BUDDY,
+                                                                           TypeDescription.ForLoadedType.of(assertionType));
+    return (Class<? extends ASSERTION>) assumptionClassBuilder.make()
+                                                              .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
+                                                              .getLoaded();
+  }
+
+  // the assumption classes of AssertJ assert classes are also generated at build time from their class files, see
+  // PregeneratedProxyClasses
+  static DynamicType.Builder<?> assumptionClassBuilder(ByteBuddy byteBuddy, TypeDefinition assertionType) {
+    return byteBuddy.subclass(assertionType)
+                    .method(any().and(not(METHODS_NOT_TO_PROXY)))
+                    .intercept(ASSUMPTION);
+  }
+
+  static ByteBuddy configure(ByteBuddy byteBuddy) {
+    return byteBuddy.with(TypeValidation.DISABLED)
+                    .with(new AuxiliaryType.NamingStrategy.SuffixingRandom("Assertj$Assumptions"));
   }
 
   // for method that change the object under test (e.g. extracting)
@@ -18,6 +18,7 @@ import static java.util.Collections.unmodifiableList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.assertj.core.util.Throwables;
 
@@ -27,8 +28,11 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   // (mutual exclusion, race-free behavior), but guarantees eventual visibility
   private volatile boolean wasSuccess = true;
   private final List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
+  // null unless collectAssertionErrorsPerThread() was called, the errors are then collected there
+  private volatile PerThreadAssertionErrors perThreadAssertionErrors;
 
-  private final List<AfterAssertionErrorCollected> callbacks = synchronizedList(new ArrayList<>());
+  // called for each collected error but rarely modified, iterating them must not lock them
+  private final List<AfterAssertionErrorCollected> callbacks = new CopyOnWriteArrayList<>();
 
   private AssertionErrorCollector delegate = null;
 
@@ -53,8 +57,13 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   @Override
   public void collectAssertionError(AssertionError error) {
     if (delegate == null) {
-      collectedAssertionErrors.add(error);
-      wasSuccess = false;
+      PerThreadAssertionErrors perThreadErrors = perThreadAssertionErrors;
+      if (perThreadErrors == null) {
+        collectedAssertionErrors.add(error);
+        wasSuccess = false;
+      } else {
+        perThreadErrors.add(error);
+      }
     } else {
       delegate.collectAssertionError(error);
     }
@@ -72,10 +81,55 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   public List<AssertionError> assertionErrorsCollected() {
     List<AssertionError> errors = delegate != null
         ? delegate.assertionErrorsCollected()
-        : unmodifiableList(collectedAssertionErrors);
+        : collectedErrors();
     return decorateErrorsCollected(errors);
   }
 
+  private List<AssertionError> collectedErrors() {
+    PerThreadAssertionErrors perThreadErrors = perThreadAssertionErrors;
+    return perThreadErrors == null ? unmodifiableList(collectedAssertionErrors) : unmodifiableList(perThreadErrors.merged());
+  }
+
+  /**
+   * Collects the assertion errors of each thread separately, use it when soft assertions are shared between threads that
+   * fail concurrently, for example when soft assertions are checked in a parallel stream.
+   * <p>
+   * By default, all the threads collect their errors in a single list which they have to lock. Once this method is called,
+   * each thread appends its errors to its own buffer, the collected errors are merged when calling
+   * {@link #assertionErrorsCollected()} (or {@code assertAll()}):
+   * <ul>
+   * <li>the errors of a thread are reported in the order they were collected</li>
+   * <li>threads are reported in the order they collected their first error</li>
+   * </ul>
+   * <p>
+   * {@link #wasSuccess()} also becomes per thread, it returns the result of the last assertion of the calling thread
+   * instead of the one of the last assertion of any thread.
+   * <p>
+   * This method should be called before sharing the soft assertions between threads, the errors already collected are
+   * kept as if they had been collected by the calling thread.
+   * <p>
+   * Example:
+   * <pre><code class='java'> SoftAssertions softly = new SoftAssertions();
+   * softly.collectAssertionErrorsPerThread();
+   *
+   * records.parallelStream()
+   *        .forEach(record -&gt; softly.assertThat(record.getName()).isNotBlank());
+   *
+   * softly.assertAll();</code></pre>
+   *
+   * @since 3.27.2
+   */
+  public void collectAssertionErrorsPerThread() {
+    if (perThreadAssertionErrors != null) return;
+    PerThreadAssertionErrors perThreadErrors = new PerThreadAssertionErrors();
+    synchronized (collectedAssertionErrors) {
+      collectedAssertionErrors.forEach(perThreadErrors::add);
+      collectedAssertionErrors.clear();
+    }
+    if (wasSuccess) perThreadErrors.succeeded();
+    perThreadAssertionErrors = perThreadErrors;
+  }
+
   /**
    * Same as {@link DefaultAssertionErrorCollector#addAfterAssertionErrorCollected(AfterAssertionErrorCollected)}, but
    * also removes all previously added callbacks.
@@ -137,7 +191,12 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   @Override
   public void succeeded() {
     if (delegate == null) {
-      wasSuccess = true;
+      PerThreadAssertionErrors perThreadErrors = perThreadAssertionErrors;
+      if (perThreadErrors == null) {
+        wasSuccess = true;
+      } else {
+        perThreadErrors.succeeded();
+      }
     } else {
       delegate.succeeded();
     }
@@ -145,7 +204,9 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
 
   @Override
   public boolean wasSuccess() {
-    return delegate == null ? wasSuccess : delegate.wasSuccess();
+    if (delegate != null) return delegate.wasSuccess();
+    PerThreadAssertionErrors perThreadErrors = perThreadAssertionErrors;
+    return perThreadErrors == null ? wasSuccess : perThreadErrors.wasSuccess();
   }
 
   /**
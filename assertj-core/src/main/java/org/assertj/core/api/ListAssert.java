@@ -12,20 +12,45 @@
  */
 package org.assertj.core.api;
 
+import static java.lang.String.format;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+import static org.assertj.core.description.EmptyTextDescription.emptyDescription;
+import static org.assertj.core.error.ActualIsNotEmpty.actualIsNotEmpty;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
 import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
+import static org.assertj.core.internal.CommonValidations.checkSizeGreaterThan;
+import static org.assertj.core.internal.CommonValidations.checkSizeGreaterThanOrEqualTo;
+import static org.assertj.core.presentation.StandardRepresentation.getMaxElementsForPrinting;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.BaseStream;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import org.assertj.core.description.Description;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.ComparisonStrategy;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Predicates;
+import org.assertj.core.presentation.PredicateDescription;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -44,6 +69,8 @@ import org.assertj.core.util.VisibleForTesting;
 public class ListAssert<ELEMENT> extends
     FactoryBasedNavigableListAssert<ListAssert<ELEMENT>, List<? extends ELEMENT>, ELEMENT, ObjectAssert<ELEMENT>> {
 
+  private boolean consumingLazily = false;
+
   public static <ELEMENT> ListAssert<ELEMENT> assertThatList(List<? extends ELEMENT> actual) {
     return new ListAssert<>(actual);
   }
@@ -87,6 +114,50 @@ public class ListAssert<ELEMENT> extends
     this(actual == null ? null : new ListFromStream(actual));
   }
 
+  /**
+   * Makes the assertions below consume the {@link Stream} under test lazily, that is read only the elements they need
+   * instead of collecting all the stream elements in a list first, only the first and last consumed elements are kept to
+   * describe the stream in error messages (as many as the representation prints, see
+   * {@link org.assertj.core.presentation.StandardRepresentation#setMaxElementsForPrinting(int)}). This allows to verify
+   * streams too big to be collected in memory, like the lines of huge files.
+   * <p>
+   * The assertions consuming the stream lazily are:
+   * <ul>
+   * <li>{@link #isNotEmpty()} and {@link #first()} which read the first element</li>
+   * <li>{@link #hasSizeGreaterThan(int)} and {@link #hasSizeGreaterThanOrEqualTo(int)} which read up to boundary + 1
+   * elements</li>
+   * <li>{@link #contains(Object[])} which stops once all the given values are found (at the first element if no values are
+   * given)</li>
+   * <li>{@link #startsWith(Object[])} which reads the given sequence length elements</li>
+   * <li>{@link #anyMatch(Predicate)} and {@link #noneMatch(Predicate)} which stop at the first matching element</li>
+   * <li>{@link #allMatch(Predicate)} which reads all the elements without keeping them, except the first and last ones not
+   * matching the predicate to describe them in the error message</li>
+   * </ul>
+   * The other assertions still collect the stream elements in a list. When {@link #noneMatch(Predicate)} or
+   * {@link #contains(Object[])} fail before reading all the stream elements, the error message only describes the consumed
+   * ones and tells that the stream was not fully read.
+   * <p>
+   * As a stream can only be consumed once, no other assertion can be chained after an assertion consuming the stream
+   * lazily, it would fail with an {@link IllegalStateException}. The stream is closed once consumed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass, reading the lines up to the first error only
+   * assertThatStream(Files.lines(hugeLogFile)).consumingLazily()
+   *                                           .anyMatch(line -&gt; line.contains("ERROR"));
+   *
+   * // assertion will fail without collecting a billion elements
+   * assertThatStream(Stream.iterate(1, i -&gt; i + 1).limit(1_000_000_000)).consumingLazily()
+   *                                                                     .allMatch(i -&gt; i &lt; 1000);</code></pre>
+   * <p>
+   * This has no effect if the actual value is a {@link List}.
+   *
+   * @return {@code this} assertion object.
+   */
+  public ListAssert<ELEMENT> consumingLazily() {
+    consumingLazily = true;
+    return myself;
+  }
+
   @Override
   protected ListAssert<ELEMENT> newAbstractIterableAssert(Iterable<? extends ELEMENT> iterable) {
     return new ListAssert<>(newArrayList(iterable));
@@ -190,6 +261,168 @@ public class ListAssert<ELEMENT> extends
     return super.isNotSameAs(expected);
   }
 
+  @Override
+  public ListAssert<ELEMENT> isNotEmpty() {
+    if (!isConsumedLazily()) return super.isNotEmpty();
+    try (LazilyConsumedStream<ELEMENT> elements = consumeLazily()) {
+      if (!elements.hasNext()) throw Failures.instance().failure(info, shouldNotBeEmpty());
+    }
+    return myself;
+  }
+
+  @Override
+  public ListAssert<ELEMENT> hasSizeGreaterThan(int boundary) {
+    if (!isConsumedLazily()) return super.hasSizeGreaterThan(boundary);
+    try (LazilyConsumedStream<ELEMENT> elements = consumeLazily()) {
+      long size = elements.skip((long) boundary + 1);
+      // size only goes beyond the int range when it is greater than boundary
+      if (size <= boundary) checkSizeGreaterThan(elements.consumedElements(), boundary, (int) size, info);
+    }
+    return myself;
+  }
+
+  @Override
+  public ListAssert<ELEMENT> hasSizeGreaterThanOrEqualTo(int boundary) {
+    if (!isConsumedLazily()) return super.hasSizeGreaterThanOrEqualTo(boundary);
+    try (LazilyConsumedStream<ELEMENT> elements = consumeLazily()) {
+      // no more than boundary elements are consumed
+      int size = (int) elements.skip(boundary);
+      checkSizeGreaterThanOrEqualTo(elements.consumedElements(), boundary, size, info);
+    }
+    return myself;
+  }
+
+  @Override
+  protected ListAssert<ELEMENT> containsForProxy(ELEMENT[] values) {
+    if (!isConsumedLazily()) return super.containsForProxy(values);
+    checkIsNotNull(values);
+    try (LazilyConsumedStream<ELEMENT> elements = consumeLazily()) {
+      if (values.length == 0) {
+        if (!elements.hasNext()) return myself;
+        // stop at the first element as actual could be infinite
+        elements.next();
+        throw failure(elements, actualIsNotEmpty(elements.consumedElements()));
+      }
+      ComparisonStrategy comparisonStrategy = iterables.getComparisonStrategy();
+      Set<Object> notFound = new LinkedHashSet<>(newArrayList(values));
+      while (!notFound.isEmpty() && elements.hasNext()) {
+        ELEMENT element = elements.next();
+        notFound.removeIf(value -> comparisonStrategy.areEqual(element, value));
+      }
+      if (notFound.isEmpty()) return myself;
+      List<ELEMENT> consumedElements = elements.consumedElements();
+      throw Failures.instance().failure(info, shouldContain(actual.getClass(), consumedElements, values, notFound,
+                                                            comparisonStrategy));
+    }
+  }
+
+  @Override
+  public ListAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate) {
+    return allMatch(predicate, PredicateDescription.GIVEN);
+  }
+
+  @Override
+  public ListAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
+    return allMatch(predicate, new PredicateDescription(predicateDescription));
+  }
+
+  private ListAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate, PredicateDescription predicateDescription) {
+    if (!isConsumedLazily()) {
+      iterables.assertAllMatch(info, actual, predicate, predicateDescription);
+      return myself;
+    }
+    Predicates.instance().assertIsNotNull(predicate);
+    try (LazilyConsumedStream<ELEMENT> elements = consumeLazily()) {
+      FirstAndLastElements<ELEMENT> nonMatches = new FirstAndLastElements<>();
+      while (elements.hasNext()) {
+        ELEMENT element = elements.next();
+        if (!predicate.test(element)) nonMatches.add(element);
+      }
+      if (nonMatches.count() == 0) return myself;
+      List<ELEMENT> nonMatchesToDescribe = nonMatches.toList();
+      throw Failures.instance().failure(info, elementsShouldMatch(elements.consumedElements(),
+                                                                  nonMatches.count() == 1
+                                                                      ? nonMatchesToDescribe.get(0)
+                                                                      : nonMatchesToDescribe,
+                                                                  predicateDescription));
+    }
+  }
+
+  @Override
+  public ListAssert<ELEMENT> anyMatch(Predicate<? super ELEMENT> predicate) {
+    return anyMatch(predicate, PredicateDescription.GIVEN);
+  }
+
+  @Override
+  public ListAssert<ELEMENT> anyMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
+    return anyMatch(predicate, new PredicateDescription(predicateDescription));
+  }
+
+  private ListAssert<ELEMENT> anyMatch(Predicate<? super ELEMENT> predicate, PredicateDescription predicateDescription) {
+    if (!isConsumedLazily()) {
+      iterables.assertAnyMatch(info, actual, predicate, predicateDescription);
+      return myself;
+    }
+    Predicates.instance().assertIsNotNull(predicate);
+    try (LazilyConsumedStream<ELEMENT> elements = consumeLazily()) {
+      while (elements.hasNext()) {
+        if (predicate.test(elements.next())) return myself;
+      }
+      throw Failures.instance().failure(info, anyElementShouldMatch(elements.consumedElements(), predicateDescription));
+    }
+  }
+
+  @Override
+  public ListAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate) {
+    return noneMatch(predicate, PredicateDescription.GIVEN);
+  }
+
+  @Override
+  public ListAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
+    return noneMatch(predicate, new PredicateDescription(predicateDescription));
+  }
+
+  private ListAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate, PredicateDescription predicateDescription) {
+    if (!isConsumedLazily()) {
+      iterables.assertNoneMatch(info, actual, predicate, predicateDescription);
+      return myself;
+    }
+    Predicates.instance().assertIsNotNull(predicate);
+    try (LazilyConsumedStream<ELEMENT> elements = consumeLazily()) {
+      while (elements.hasNext()) {
+        ELEMENT element = elements.next();
+        if (predicate.test(element)) {
+          // don't read the remaining elements as actual could be infinite
+          throw failure(elements, noElementsShouldMatch(elements.consumedElements(), element, predicateDescription));
+        }
+      }
+    }
+    return myself;
+  }
+
+  // the error message only describes the consumed elements, it tells when the stream was not fully read
+  private AssertionError failure(LazilyConsumedStream<ELEMENT> elements, ErrorMessageFactory errorMessageFactory) {
+    if (elements.hasNext()) errorMessageFactory = new NotFullyReadStream(errorMessageFactory, elements.consumedCount());
+    return Failures.instance().failure(info, errorMessageFactory);
+  }
+
+  @Override
+  @CheckReturnValue
+  public ObjectAssert<ELEMENT> first() {
+    if (!isConsumedLazily()) return super.first();
+    try (LazilyConsumedStream<ELEMENT> elements = consumeLazily()) {
+      if (!elements.hasNext()) throw Failures.instance().failure(info, shouldNotBeEmpty());
+      return toAssert(elements.next(), navigationDescription("check first element"));
+    }
+  }
+
+  @Override
+  @CheckReturnValue
+  public <ASSERT extends AbstractAssert<?, ?>> ASSERT first(InstanceOfAssertFactory<?, ASSERT> assertFactory) {
+    if (!isConsumedLazily()) return super.first(assertFactory);
+    return first().asInstanceOf(assertFactory);
+  }
+
   @Override
   protected ListAssert<ELEMENT> startsWithForProxy(ELEMENT[] sequence) {
     if (!(actual instanceof ListFromStream)) {
@@ -199,9 +432,15 @@ public class ListAssert<ELEMENT> extends
     }
     objects.assertNotNull(info, actual);
     checkIsNotNull(sequence);
-    // NO SUPPORT FOR infinite streams as it prevents chaining other assertions afterward, it requires to consume the
-    // Stream partially, if you chain another assertion, the stream is already consumed.
-    Iterator<? extends ELEMENT> iterator = asListFromStream().stream().iterator();
+    // NO SUPPORT FOR infinite streams unless consumed lazily as it prevents chaining other assertions afterward, it requires
+    // to consume the Stream partially, if you chain another assertion, the stream is already consumed.
+    if (!consumingLazily) return startsWith(asListFromStream().stream().iterator(), sequence);
+    try (LazilyConsumedStream<ELEMENT> elements = consumeLazily()) {
+      return startsWith(elements, sequence);
+    }
+  }
+
+  private ListAssert<ELEMENT> startsWith(Iterator<? extends ELEMENT> iterator, ELEMENT[] sequence) {
     if (sequence.length == 0 && iterator.hasNext()) throw new AssertionError("actual is not empty");
     int i = 0;
     while (iterator.hasNext()) {
@@ -221,6 +460,14 @@ public class ListAssert<ELEMENT> extends
                    .failure(info, shouldStartWith("Stream under test", sequence, iterables.getComparisonStrategy()));
   }
 
+  private boolean isConsumedLazily() {
+    return consumingLazily && actual instanceof ListFromStream;
+  }
+
+  private LazilyConsumedStream<ELEMENT> consumeLazily() {
+    return new LazilyConsumedStream<>(asListFromStream());
+  }
+
   @SuppressWarnings("unchecked")
   private ListFromStream<ELEMENT, Stream<ELEMENT>> asListFromStream() {
     return (ListFromStream<ELEMENT, Stream<ELEMENT>>) actual;
@@ -263,4 +510,116 @@ public class ListAssert<ELEMENT> extends
 
   }
 
+  /**
+   * The elements of a {@link ListFromStream} consumed one at a time, only the first and last consumed elements are kept,
+   * as many as the representation of the whole list of elements would print.
+   * <p>
+   * If the stream elements were already collected in a list by a previous assertion, the list is read instead.
+   */
+  private static class LazilyConsumedStream<ELEMENT> implements Iterator<ELEMENT>, AutoCloseable {
+
+    private final ListFromStream<ELEMENT, ?> listFromStream;
+    private final Iterator<ELEMENT> iterator;
+    private final FirstAndLastElements<ELEMENT> consumedElements = new FirstAndLastElements<>();
+
+    LazilyConsumedStream(ListFromStream<ELEMENT, ?> listFromStream) {
+      this.listFromStream = listFromStream;
+      this.iterator = listFromStream.list != null ? listFromStream.list.iterator() : listFromStream.stream.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public ELEMENT next() {
+      ELEMENT element = iterator.next();
+      consumedElements.add(element);
+      return element;
+    }
+
+    // consumes up to the given number of elements, returns the number of consumed elements
+    long skip(long count) {
+      while (consumedCount() < count && hasNext()) next();
+      return consumedCount();
+    }
+
+    long consumedCount() {
+      return consumedElements.count();
+    }
+
+    // represented the same way as all the elements would be
+    List<ELEMENT> consumedElements() {
+      if (listFromStream.list != null) return listFromStream.list;
+      return consumedElements.toList();
+    }
+
+    @Override
+    public void close() {
+      if (listFromStream.list == null) listFromStream.stream.close();
+    }
+
+  }
+
+  // keeps the first and last added elements only, as many as the representation prints for an iterable
+  private static class FirstAndLastElements<ELEMENT> {
+
+    private final int capacity = getMaxElementsForPrinting() / 2 + 1;
+    private final List<ELEMENT> firstElements = new ArrayList<>();
+    private final Deque<ELEMENT> lastElements = new ArrayDeque<>();
+    private long count = 0;
+
+    void add(ELEMENT element) {
+      count++;
+      if (firstElements.size() < capacity) {
+        firstElements.add(element);
+      } else {
+        if (lastElements.size() == capacity) lastElements.removeFirst();
+        lastElements.addLast(element);
+      }
+    }
+
+    // the number of added elements, including the ones that were not kept
+    long count() {
+      return count;
+    }
+
+    // represented the same way as all the added elements would be
+    List<ELEMENT> toList() {
+      List<ELEMENT> elements = new ArrayList<>(firstElements);
+      elements.addAll(lastElements);
+      return elements;
+    }
+
+  }
+
+  private static class NotFullyReadStream implements ErrorMessageFactory {
+
+    private final ErrorMessageFactory errorMessageFactory;
+    private final long consumedCount;
+
+    NotFullyReadStream(ErrorMessageFactory errorMessageFactory, long consumedCount) {
+      this.errorMessageFactory = errorMessageFactory;
+      this.consumedCount = consumedCount;
+    }
+
+    @Override
+    public String create(Description d, Representation representation) {
+      return errorMessageFactory.create(d, representation)
+             + format("%n(the stream was not fully read, only its first %s element(s) were consumed)", consumedCount);
+    }
+
+    @Override
+    public String create(Description d) {
+      return create(d, CONFIGURATION_PROVIDER.representation());
+    }
+
+    @Override
+    public String create() {
+      return create(emptyDescription());
+    }
+
+  }
+
 }
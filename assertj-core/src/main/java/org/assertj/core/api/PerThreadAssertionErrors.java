@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The assertion errors collected by soft assertions shared between threads, each thread appends its errors to its own
+ * buffer so that threads collecting errors concurrently don't contend on a single list.
+ * <p>
+ * The collected errors are merged by thread, in the order the threads collected their first error, then in the order each
+ * thread collected them. Whether the last assertion succeeded is tracked per thread, a thread only sees the result of its
+ * own assertions.
+ */
+final class PerThreadAssertionErrors {
+
+  private final Map<Thread, ThreadAssertionErrors> threadsAssertionErrors = new ConcurrentHashMap<>();
+  private final AtomicLong threadsCount = new AtomicLong();
+
+  void add(AssertionError error) {
+    ThreadAssertionErrors threadAssertionErrors = threadsAssertionErrors.computeIfAbsent(Thread.currentThread(),
+                                                                                         this::newThreadAssertionErrors);
+    threadAssertionErrors.errors.add(error);
+    threadAssertionErrors.lastAssertionSucceeded = false;
+  }
+
+  private ThreadAssertionErrors newThreadAssertionErrors(@SuppressWarnings("unused") Thread thread) {
+    return new ThreadAssertionErrors(threadsCount.getAndIncrement());
+  }
+
+  void succeeded() {
+    ThreadAssertionErrors threadAssertionErrors = threadsAssertionErrors.get(Thread.currentThread());
+    // threads without errors have no buffer, all their assertions succeeded
+    if (threadAssertionErrors != null) threadAssertionErrors.lastAssertionSucceeded = true;
+  }
+
+  boolean wasSuccess() {
+    ThreadAssertionErrors threadAssertionErrors = threadsAssertionErrors.get(Thread.currentThread());
+    return threadAssertionErrors == null || threadAssertionErrors.lastAssertionSucceeded;
+  }
+
+  List<AssertionError> merged() {
+    List<ThreadAssertionErrors> allThreadsAssertionErrors = new ArrayList<>(threadsAssertionErrors.values());
+    allThreadsAssertionErrors.sort(comparingLong(threadAssertionErrors -> threadAssertionErrors.threadSequence));
+    List<AssertionError> errors = new ArrayList<>();
+    allThreadsAssertionErrors.forEach(threadAssertionErrors -> errors.addAll(threadAssertionErrors.errors));
+    return errors;
+  }
+
+  private static final class ThreadAssertionErrors {
+
+    // the rank of the thread among the ones that collected errors
+    private final long threadSequence;
+    // appended by the thread only, read concurrently when merging the errors
+    private final Queue<AssertionError> errors = new ConcurrentLinkedQueue<>();
+    // read and written by the thread only
+    private boolean lastAssertionSucceeded;
+
+    private ThreadAssertionErrors(long threadSequence) {
+      this.threadSequence = threadSequence;
+    }
+  }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
+import static org.assertj.core.api.ClassLoadingStrategyFactory.ASSERTJ_CLASS_LOADER;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
+import net.bytebuddy.jar.asm.ClassReader;
+import net.bytebuddy.jar.asm.ClassVisitor;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Type;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.utility.OpenedClassReader;
+
+/**
+ * Soft assertion proxy classes and assumption classes of the AssertJ assert classes, generated when building AssertJ to
+ * save generating them in each JVM running soft assertions or assumptions.
+ * <p>
+ * The classes are generated by {@link #main(String[])} from the compiled assert classes during the {@code process-classes}
+ * phase of the build, only for the assert classes created by {@link StandardSoftAssertionsProvider},
+ * {@link BDDSoftAssertionsProvider} and {@link Assumptions}. As ByteBuddy generates an auxiliary class for each proxied
+ * method, they are much bigger than AssertJ itself and are thus not part of the assertj-core jar but of the optional
+ * {@code assertj-core-<version>-pregenerated-proxies.jar} (the {@code pregenerated-proxies} classifier), used when added to
+ * the class path next to assertj-core.
+ * <p>
+ * The classes of the other assert classes (e.g. custom ones) are still generated at runtime, as well as the AssertJ ones if
+ * the pregenerated classes are missing or can't be loaded, e.g. when AssertJ is a named module as a class path jar can't
+ * add classes to its packages.
+ */
+final class PregeneratedProxyClasses {
+
+  static final String SOFT_PROXY_SUFFIX = "$AssertJ$SoftProxy";
+  static final String ASSUMPTION_SUFFIX = "$AssertJ$Assumption";
+
+  private static final String ASSERTJ_PACKAGE = "org.assertj.core.";
+
+  /**
+   * Returns the class generated at build time for the given assert class with the given suffix, or null if there is none.
+   *
+   * @param <T> the assert type
+   * @param assertClass the assert class to find the generated class of
+   * @param suffix {@link #SOFT_PROXY_SUFFIX} or {@link #ASSUMPTION_SUFFIX}
+   * @return the generated class or null if there is none.
+   */
+  static <T> Class<? extends T> find(Class<T> assertClass, String suffix) {
+    // only AssertJ assert classes have generated classes, no need to look up the others
+    if (assertClass.getClassLoader() != ASSERTJ_CLASS_LOADER || !assertClass.getName().startsWith(ASSERTJ_PACKAGE)) return null;
+    try {
+      Class<?> generatedClass = Class.forName(assertClass.getName() + suffix, false, ASSERTJ_CLASS_LOADER);
+      return generatedClass.getSuperclass() == assertClass ? generatedClass.asSubclass(assertClass) : null;
+    } catch (ClassNotFoundException | LinkageError e) {
+      // not generated or not loadable (e.g. compiled for a more recent JVM), the class will be generated at runtime
+      return null;
+    }
+  }
+
+  /**
+   * Generates the soft assertion proxy classes of the assert classes created by soft assertions and the assumption classes
+   * of the assert classes created by assumptions.
+   *
+   * @param args the directory where the generated classes are written and the Java version of the generated classes
+   * @throws IOException if the generated classes can't be written
+   */
+  public static void main(String[] args) throws IOException {
+    File outputDirectory = new File(args[0]);
+    ClassFileVersion classFileVersion = ClassFileVersion.ofJavaVersion(Integer.parseInt(args[1]));
+    // the assert classes are described from their class files as reflection does not return their methods in a stable order
+    TypePool typePool = TypePool.Default.of(ClassFileLocator.ForClassLoader.of(ASSERTJ_CLASS_LOADER));
+    ByteBuddy softProxies = reproducible(SoftProxies.configure(new ByteBuddy(classFileVersion)), "AssertJ$SoftProxies");
+    ByteBuddy assumptions = reproducible(Assumptions.configure(new ByteBuddy(classFileVersion)), "AssertJ$Assumptions");
+    Set<Class<?>> softAssertClasses = assertClassesCreatedBy(StandardSoftAssertionsProvider.class,
+                                                             BDDSoftAssertionsProvider.class,
+                                                             SoftProxies.class,
+                                                             ProxifyMethodChangingTheObjectUnderTest.class);
+    for (Class<?> assertClass : softAssertClasses) {
+      SoftProxies.proxyClassBuilder(softProxies, typePool.describe(assertClass.getName()).resolve())
+                 .name(assertClass.getName() + SOFT_PROXY_SUFFIX)
+                 .make(typePool)
+                 .saveIn(outputDirectory);
+    }
+    Set<Class<?>> assumptionAssertClasses = assertClassesCreatedBy(Assumptions.class);
+    for (Class<?> assertClass : assumptionAssertClasses) {
+      Assumptions.assumptionClassBuilder(assumptions, typePool.describe(assertClass.getName()).resolve())
+                 .name(assertClass.getName() + ASSUMPTION_SUFFIX)
+                 .make(typePool)
+                 .saveIn(outputDirectory);
+    }
+  }
+
+  // names the auxiliary classes and the accessor methods without the random suffixes used at runtime, the generated classes
+  // are then the same from one build to another
+  private static ByteBuddy reproducible(ByteBuddy byteBuddy, String suffix) {
+    return byteBuddy.with(new AuxiliaryType.NamingStrategy.Suffixing(suffix))
+                    .with(new Implementation.Context.Default.Factory.WithFixedSuffix(suffix));
+  }
+
+  /**
+   * Returns the assert classes that can be proxied among the class literals used by the given classes and the interfaces they
+   * extend, e.g. {@code BooleanAssert} for {@code proxy(BooleanAssert.class, Boolean.class, actual)}.
+   * <p>
+   * The class literals are read from the class files as the methods creating the asserts often return an abstract type, e.g.
+   * {@code AbstractBooleanAssert<?>} for {@code Assumptions.assumeThat(boolean)}.
+   */
+  private static Set<Class<?>> assertClassesCreatedBy(Class<?>... types) {
+    Set<Class<?>> assertClasses = new TreeSet<>(comparing(Class::getName));
+    ClassVisitor classLiteralsCollector = new ClassVisitor(OpenedClassReader.ASM_API) {
+      @Override
+      public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        return new MethodVisitor(OpenedClassReader.ASM_API) {
+          @Override
+          public void visitLdcInsn(Object value) {
+            if (!(value instanceof Type) || ((Type) value).getSort() != Type.OBJECT) return;
+            Class<?> classLiteral = loadClass(((Type) value).getClassName());
+            if (classLiteral != null && canBeProxied(classLiteral)) assertClasses.add(classLiteral);
+          }
+        };
+      }
+    };
+    for (Class<?> type : withSuperInterfaces(types)) {
+      ClassReader classReader = new ClassReader(ClassFileLocator.ForClassLoader.read(type));
+      classReader.accept(classLiteralsCollector, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    }
+    return assertClasses;
+  }
+
+  private static Set<Class<?>> withSuperInterfaces(Class<?>... types) {
+    Set<Class<?>> typesWithSuperInterfaces = new LinkedHashSet<>();
+    Deque<Class<?>> typesToVisit = new ArrayDeque<>(asList(types));
+    while (!typesToVisit.isEmpty()) {
+      Class<?> type = typesToVisit.pop();
+      if (typesWithSuperInterfaces.add(type)) typesToVisit.addAll(asList(type.getInterfaces()));
+    }
+    return typesWithSuperInterfaces;
+  }
+
+  private static Class<?> loadClass(String className) {
+    if (!className.startsWith(ASSERTJ_PACKAGE)) return null;
+    try {
+      Class<?> type = Class.forName(className, false, ASSERTJ_CLASS_LOADER);
+      // resolves the types used by the methods to proxy
+      type.getMethods();
+      return type;
+    } catch (ClassNotFoundException | LinkageError e) {
+      // depends on an optional dependency that is not in the classpath, e.g. JUnit 4 rules
+      return null;
+    }
+  }
+
+  private static boolean canBeProxied(Class<?> type) {
+    int modifiers = type.getModifiers();
+    return AbstractAssert.class.isAssignableFrom(type) && isPublic(modifiers) && !isAbstract(modifiers) && !isFinal(modifiers);
+  }
+
+  private PregeneratedProxyClasses() {}
+
+}
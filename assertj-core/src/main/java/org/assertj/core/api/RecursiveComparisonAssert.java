@@ -1805,6 +1805,38 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Makes the recursive comparison compare the independent parts of the object graphs in parallel using the given number
+   * of threads, this can speed up the comparison of big object graphs like aggregates holding large collections or maps.
+   * <p>
+   * The root objects are first compared in the calling thread until enough of their fields and elements are left to
+   * compare, these are then compared concurrently and their differences reported exactly as if they had been compared
+   * sequentially. If some values are shared by these parts (or cycle back to one another), the comparison falls back to
+   * sequentially comparing the objects from scratch, the same happens when {@link #comparingOnlyFieldsOfTypes(Class[])}
+   * is used.
+   * <p>
+   * Registered comparators, equals BiPredicates and {@code equals} methods of the compared objects are called from several
+   * threads and thus must be thread-safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Warehouse actual = new Warehouse(millionsOfItems);
+   * Warehouse expected = new Warehouse(millionsOfItems);
+   *
+   * // compares the warehouses items with 4 threads
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .withParallelism(4)
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @param parallelism the number of threads used to compare the object graphs, 1 meaning no parallelism.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if the given parallelism is not strictly positive.
+   */
+  @CheckReturnValue
+  public SELF withParallelism(int parallelism) {
+    recursiveComparisonConfiguration.setParallelism(parallelism);
+    return myself;
+  }
+
   SELF withTypeComparators(TypeComparators typeComparators) {
     Optional.ofNullable(typeComparators)
             .map(TypeComparators::comparatorByTypes)
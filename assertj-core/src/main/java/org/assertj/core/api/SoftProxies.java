@@ -19,6 +19,7 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrategy;
+import static org.assertj.core.api.PregeneratedProxyClasses.SOFT_PROXY_SUFFIX;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -33,6 +34,9 @@ import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
@@ -105,8 +109,7 @@ class SoftProxies {
                                                                                     .or(named("withThreadDumpOnError"))
                                                                                     .or(named("withTypeComparators"));
 
-  private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(new AuxiliaryType.NamingStrategy.SuffixingRandom("AssertJ$SoftProxies"))
-                                                             .with(TypeValidation.DISABLED);
+  private static final ByteBuddy BYTE_BUDDY = configure(new ByteBuddy());
 
   private static final Implementation PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST = MethodDelegation.to(ProxifyMethodChangingTheObjectUnderTest.class);
   private static final Implementation ERROR_COLLECTOR = MethodDelegation.to(ErrorCollector.class);
@@ -138,7 +141,12 @@ class SoftProxies {
   private static <ASSERT extends Assert<?, ?>> Class<ASSERT> createSoftAssertionProxyClass(Class<ASSERT> assertClass) {
     SimpleKey cacheKey = new SimpleKey(assertClass);
     return (Class<ASSERT>) CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey,
-                                              () -> generateProxyClass(assertClass));
+                                              () -> findOrGenerateProxyClass(assertClass));
+  }
+
+  private static <V> Class<? extends V> findOrGenerateProxyClass(Class<V> assertClass) {
+    Class<? extends V> pregeneratedProxyClass = PregeneratedProxyClasses.find(assertClass, SOFT_PROXY_SUFFIX);
+    return pregeneratedProxyClass != null ? pregeneratedProxyClass : generateProxyClass(assertClass);
   }
 
   FileSizeAssert<?> createFileSizeAssertProxy(FileSizeAssert<?> fileSizeAssert) {
@@ -204,9 +212,19 @@ class SoftProxies {
     }
   }
 
+  @SuppressWarnings("unchecked")
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertClass);
-    return BYTE_BUDDY.subclass(assertClass)
+    DynamicType.Builder<?> proxyClassBuilder = proxyClassBuilder(BYTE_BUDDY, TypeDescription.ForLoadedType.of(assertClass));
+    return (Class<? extends V>) proxyClassBuilder.make()
+                                                 .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
+                                                 .getLoaded();
+  }
+
+  // the proxy classes of AssertJ assert classes are also generated at build time from their class files, see
+  // PregeneratedProxyClasses
+  static DynamicType.Builder<?> proxyClassBuilder(ByteBuddy byteBuddy, TypeDefinition assertType) {
+    return byteBuddy.subclass(assertType)
                      .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
                                   ProxifyMethodChangingTheObjectUnderTest.class,
                                   Visibility.PRIVATE)
@@ -219,10 +237,12 @@ class SoftProxies {
                      .implement(AssertJProxySetup.class)
                      // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
                      .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
-                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)))
-                     .make()
-                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
-                     .getLoaded();
+                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)));
+  }
+
+  static ByteBuddy configure(ByteBuddy byteBuddy) {
+    return byteBuddy.with(new AuxiliaryType.NamingStrategy.SuffixingRandom("AssertJ$SoftProxies"))
+                    .with(TypeValidation.DISABLED);
   }
 
   private static Junction<MethodDescription> methodsNamed(String... names) {
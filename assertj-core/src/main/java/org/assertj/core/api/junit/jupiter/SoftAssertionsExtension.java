@@ -23,10 +23,13 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
 
 import org.assertj.core.annotations.Beta;
 import org.assertj.core.api.AbstractSoftAssertions;
@@ -204,6 +207,21 @@ public class SoftAssertionsExtension
       threadLocal.remove();
     }
 
+    // binds the given collector to the current thread and returns the previously bound one
+    AssertionErrorCollector bind(AssertionErrorCollector assertionErrorCollector) {
+      AssertionErrorCollector previous = threadLocal.get();
+      threadLocal.set(assertionErrorCollector);
+      return previous;
+    }
+
+    void restore(AssertionErrorCollector previous) {
+      if (previous == null) {
+        threadLocal.remove();
+      } else {
+        threadLocal.set(previous);
+      }
+    }
+
     @Override
     public void collectAssertionError(AssertionError assertionError) {
       threadLocal.get().collectAssertionError(assertionError);
@@ -225,6 +243,61 @@ public class SoftAssertionsExtension
     }
   }
 
+  /**
+   * Collects the errors of a task run with {@link #inTaskScope(SoftAssertionsProvider, Runnable) inTaskScope}.
+   * <p>
+   * The errors are added to the parent collector (usually the test one) when the task completes. Errors collected after
+   * that, by threads the task started, are added to the parent collector directly.
+   */
+  static class TaskErrorCollector implements AssertionErrorCollector {
+
+    private final AssertionErrorCollector parent;
+    private final List<AssertionError> errors = new ArrayList<>();
+    private boolean completed;
+    private boolean wasSuccess = true;
+
+    TaskErrorCollector(AssertionErrorCollector parent) {
+      this.parent = parent;
+    }
+
+    @Override
+    public void collectAssertionError(AssertionError assertionError) {
+      synchronized (this) {
+        wasSuccess = false;
+        if (!completed) {
+          errors.add(assertionError);
+          return;
+        }
+      }
+      parent.collectAssertionError(assertionError);
+    }
+
+    @Override
+    public synchronized List<AssertionError> assertionErrorsCollected() {
+      return new ArrayList<>(errors);
+    }
+
+    @Override
+    public synchronized void succeeded() {
+      wasSuccess = true;
+    }
+
+    @Override
+    public synchronized boolean wasSuccess() {
+      return wasSuccess;
+    }
+
+    void complete() {
+      List<AssertionError> taskErrors;
+      synchronized (this) {
+        completed = true;
+        taskErrors = new ArrayList<>(errors);
+        errors.clear();
+      }
+      taskErrors.forEach(parent::collectAssertionError);
+    }
+  }
+
   static boolean isPerClass(ExtensionContext context) {
     return context.getTestInstanceLifecycle().map(x -> x == Lifecycle.PER_CLASS).orElse(false);
   }
@@ -433,6 +506,111 @@ public class SoftAssertionsExtension
                                                   concreteSoftAssertionsProviderType);
   }
 
+  /**
+   * Returns a task running the given one with its own error collector. The collected errors are added to the test ones
+   * when the task completes, so that soft assertions can be shared with tasks run by other threads, including virtual
+   * threads or the threads of executors that were not started by the test.
+   * <p>
+   * Each task collects its errors without contending with the other tasks, {@link SoftAssertionsProvider#wasSuccess()}
+   * returns the result of the last assertion of the task. The errors of a task are reported together, in the order the
+   * task collected them. Tasks are reported in the order they complete.
+   * <p>
+   * The task must be created in the test thread (or in a task created this way) and must complete before the test does,
+   * like tasks forked in a structured concurrency scope.
+   * <p>
+   * This only matters for soft assertions fields of {@code PER_CLASS} concurrent tests. Their soft assertions are bound to
+   * the test thread and to the threads it starts, but not to the threads of executors created before the test. For other
+   * soft assertions, the given task is returned as is, as their errors are collected by a collector shared by all threads.
+   *
+   * <pre><code class='java'> {@literal @}ExtendWith(SoftAssertionsExtension.class)
+   * {@literal @}Execution(ExecutionMode.CONCURRENT)
+   * {@literal @}TestInstance(Lifecycle.PER_CLASS)
+   * class ConcurrentTest {
+   *
+   *   {@literal @}InjectSoftAssertions
+   *   SoftAssertions softly;
+   *
+   *   {@literal @}Test
+   *   void validate_records() throws Exception {
+   *     try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+   *       for (Record record : records) {
+   *         executor.execute(inTaskScope(softly, () -&gt; softly.assertThat(record.isValid()).isTrue()));
+   *       }
+   *     }
+   *   }
+   * }</code></pre>
+   *
+   * @param softAssertions the soft assertions used by the task
+   * @param task the task to run
+   * @return a task collecting the errors of the given one in its own collector
+   * @throws IllegalStateException if the soft assertions are bound to the test threads and there is no test running in the
+   *           current thread
+   * @since 3.27.2
+   */
+  @Beta
+  public static Runnable inTaskScope(SoftAssertionsProvider softAssertions, Runnable task) {
+    if (!threadLocalErrorCollectorOf(softAssertions).isPresent()) return task;
+    Callable<Object> taskInScope = callableInTaskScope(softAssertions, Executors.callable(task));
+    return () -> {
+      try {
+        taskInScope.call();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        // can't happen as a Runnable does not throw checked exceptions
+        throw new IllegalStateException(e);
+      }
+    };
+  }
+
+  /**
+   * Same as {@link #inTaskScope(SoftAssertionsProvider, Runnable)} for a task returning a result, e.g. submitted to an
+   * {@link java.util.concurrent.ExecutorService ExecutorService}.
+   * <p>
+   * It is named differently so that a lambda given to {@link #inTaskScope(SoftAssertionsProvider, Runnable) inTaskScope} is
+   * always a {@link Runnable}, e.g. {@code softly.assertThat(...).isTrue()} returns an assert object and would otherwise
+   * be considered a {@link Callable}.
+   *
+   * @param <T> the type of the task result
+   * @param softAssertions the soft assertions used by the task
+   * @param task the task to run
+   * @return a task collecting the errors of the given one in its own collector
+   * @throws IllegalStateException if the soft assertions are bound to the test threads and there is no test running in the
+   *           current thread
+   * @since 3.27.2
+   */
+  @Beta
+  public static <T> Callable<T> callableInTaskScope(SoftAssertionsProvider softAssertions, Callable<T> task) {
+    Optional<ThreadLocalErrorCollector> threadLocalErrorCollector = threadLocalErrorCollectorOf(softAssertions);
+    if (!threadLocalErrorCollector.isPresent()) return task;
+    ThreadLocalErrorCollector tlec = threadLocalErrorCollector.get();
+    AssertionErrorCollector parent = currentCollectorOf(tlec);
+    return () -> {
+      TaskErrorCollector taskErrorCollector = new TaskErrorCollector(parent);
+      AssertionErrorCollector previous = tlec.bind(taskErrorCollector);
+      try {
+        return task.call();
+      } finally {
+        tlec.restore(previous);
+        taskErrorCollector.complete();
+      }
+    };
+  }
+
+  private static Optional<ThreadLocalErrorCollector> threadLocalErrorCollectorOf(SoftAssertionsProvider softAssertions) {
+    return softAssertions.getDelegate()
+                         .filter(ThreadLocalErrorCollector.class::isInstance)
+                         .map(ThreadLocalErrorCollector.class::cast);
+  }
+
+  private static AssertionErrorCollector currentCollectorOf(ThreadLocalErrorCollector tlec) {
+    AssertionErrorCollector collector = tlec.threadLocal.get();
+    if (collector == null) {
+      throw new IllegalStateException("No test is running in the current thread, tasks using the soft assertions must be created by the test");
+    }
+    return collector;
+  }
+
   private static void setTestInstanceSoftAssertionsField(Object testInstance, Field softAssertionsField,
                                                          SoftAssertionsProvider softAssertions) {
     softAssertionsField.setAccessible(true);
@@ -20,9 +20,16 @@ import java.util.LinkedList;
 // special deque that can ignore DualKey according to RecursiveComparisonConfiguration.
 class DualValueDeque extends LinkedList<DualValue> {
   private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  private final FieldLocationDecisions fieldLocationDecisions;
 
   public DualValueDeque(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this(recursiveComparisonConfiguration, FieldLocationDecisions.NOT_MEMOIZED);
+  }
+
+  DualValueDeque(RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                 FieldLocationDecisions fieldLocationDecisions) {
     this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+    this.fieldLocationDecisions = fieldLocationDecisions;
   }
 
   @Override
@@ -64,7 +71,7 @@ class DualValueDeque extends LinkedList<DualValue> {
    * @return true if we want to register the value for evaluation, false otherwise
    */
   private boolean shouldNotEvaluate(DualValue dualValue) {
-    return recursiveComparisonConfiguration.shouldNotEvaluate(dualValue);
+    return recursiveComparisonConfiguration.shouldNotEvaluate(dualValue, fieldLocationDecisions);
   }
 
   private boolean shouldAddDualKey(DualValue dualKey) {
@@ -12,18 +12,13 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
-import static java.util.Collections.emptyList;
+import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
-import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.joining;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newLinkedHashSet;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -34,23 +29,51 @@ import java.util.regex.Pattern;
 public final class FieldLocation implements Comparable<FieldLocation> {
 
   public static final String FIELD_SEPARATOR = ".";
-  private final String pathToUseInRules;
-  private final List<String> decomposedPath;
-  private final Set<String> pathsHierarchyToUseInRules;
+  private static final FieldLocation ROOT = new FieldLocation();
+
+  // a field location is linked to its parent location instead of copying its whole path, the comparison creates a field
+  // location per compared node, computing their paths is only done when needed and based on their parent computed ones.
+  private final FieldLocation parent;
+  private final String fieldName;
+  private final int depth;
+  private final int hashCode;
+  // lazily computed, racy single-check is fine as these are either immutable or safely published
+  private String pathToUseInRules;
+  private List<String> decomposedPath;
 
   public FieldLocation(List<String> path) {
-    decomposedPath = unmodifiableList(requireNonNull(path, "path cannot be null"));
-    pathToUseInRules = pathToUseInRules(decomposedPath);
-    pathsHierarchyToUseInRules = pathsHierarchyToUseInRules();
+    requireNonNull(path, "path cannot be null");
+    FieldLocation location = ROOT;
+    for (int i = 0; i < path.size() - 1; i++) {
+      location = new FieldLocation(location, path.get(i));
+    }
+    this.parent = path.isEmpty() ? null : location;
+    this.fieldName = path.isEmpty() ? "" : path.get(path.size() - 1);
+    this.depth = path.size();
+    this.hashCode = computeHashCode();
   }
 
   public FieldLocation(String s) {
     this(list(s.split("\\.")));
   }
 
+  private FieldLocation() {
+    this.parent = null;
+    this.fieldName = "";
+    this.depth = 0;
+    this.hashCode = computeHashCode();
+  }
+
+  private FieldLocation(FieldLocation parent, String fieldName) {
+    this.parent = parent;
+    this.fieldName = fieldName;
+    this.depth = parent.depth + 1;
+    this.hashCode = computeHashCode();
+  }
+
   @Override
   public int compareTo(final FieldLocation other) {
-    return pathToUseInRules.compareTo(other.pathToUseInRules);
+    return getPathToUseInRules().compareTo(other.getPathToUseInRules());
   }
 
   @Override
@@ -58,42 +81,48 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     if (this == obj) return true;
     if (!(obj instanceof FieldLocation)) return false;
     FieldLocation that = (FieldLocation) obj;
-    return Objects.equals(pathToUseInRules, that.pathToUseInRules)
-           && Objects.equals(decomposedPath, that.decomposedPath)
-           && Objects.equals(pathsHierarchyToUseInRules, that.pathsHierarchyToUseInRules);
+    // same decomposed paths, most field locations compared share their parent location
+    return hashCode == that.hashCode
+           && depth == that.depth
+           && Objects.equals(fieldName, that.fieldName)
+           && Objects.equals(parent, that.parent);
   }
 
   @Override
   public int hashCode() {
-    int result = Objects.hashCode(pathToUseInRules);
-    result = 31 * result + Objects.hashCode(decomposedPath);
-    result = 31 * result + Objects.hashCode(pathsHierarchyToUseInRules);
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int result = Objects.hashCode(parent);
+    result = 31 * result + Objects.hashCode(fieldName);
+    result = 31 * result + depth;
     return result;
   }
 
   @Override
   public String toString() {
-    return String.format("<%s>", pathToUseInRules);
+    return String.format("<%s>", getPathToUseInRules());
   }
 
   public String shortDescription() {
-    return pathToUseInRules;
+    return getPathToUseInRules();
   }
 
-  private static String pathToUseInRules(List<String> path) {
+  private String computePathToUseInRules() {
+    if (parent == null) return "";
     // remove the array sub-path, so person.children.[2].name -> person.children.name
     // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
-    return path.stream()
-               .filter(subpath -> !subpath.startsWith("["))
-               .collect(joining(FIELD_SEPARATOR));
+    if (fieldName.startsWith("[")) return parent.getPathToUseInRules();
+    return parent.getPathToUseInRulesForChildField(fieldName);
   }
 
   public boolean exactlyMatches(FieldLocation field) {
-    return exactlyMatches(field.pathToUseInRules);
+    return exactlyMatches(field.getPathToUseInRules());
   }
 
   public boolean exactlyMatches(String fieldPath) {
-    return pathToUseInRules.equals(fieldPath);
+    return getPathToUseInRules().equals(fieldPath);
   }
 
   /**
@@ -144,7 +173,9 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true if this fieldLocation is the given fieldPath or a child of it, false otherwise.
    */
   public boolean hierarchyMatches(String fieldPath) {
-    return pathsHierarchyToUseInRules.contains(fieldPath);
+    if (fieldPath.isEmpty()) return false;
+    String path = getPathToUseInRules();
+    return path.equals(fieldPath) || isParentPath(fieldPath, path);
   }
 
   /**
@@ -172,53 +203,69 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true, this fieldLocation or any of its parent matches the given regex., false otherwise.
    */
   public boolean hierarchyMatchesRegex(Pattern regex) {
-    return pathsHierarchyToUseInRules.stream().anyMatch(path -> regex.matcher(path).matches());
+    // try matching from the longest to the shortest path
+    for (String path = getPathToUseInRules(); !isRootPath(path); path = parent(path)) {
+      if (regex.matcher(path).matches()) return true;
+    }
+    return false;
   }
 
   public List<String> getDecomposedPath() {
-    return decomposedPath;
+    List<String> path = decomposedPath;
+    if (path == null) {
+      String[] fieldNames = new String[depth];
+      for (FieldLocation location = this; location.parent != null; location = location.parent) {
+        fieldNames[location.depth - 1] = location.fieldName;
+      }
+      path = unmodifiableList(asList(fieldNames));
+      decomposedPath = path;
+    }
+    return path;
   }
 
   public String getPathToUseInRules() {
-    return pathToUseInRules;
+    String path = pathToUseInRules;
+    if (path == null) {
+      path = computePathToUseInRules();
+      pathToUseInRules = path;
+    }
+    return path;
   }
 
   public String getPathToUseInRulesForChildField(String fieldName) {
-    return pathToUseInRules.isEmpty() ? fieldName : pathToUseInRules + FIELD_SEPARATOR + fieldName;
+    String path = getPathToUseInRules();
+    return path.isEmpty() ? fieldName : path + FIELD_SEPARATOR + fieldName;
   }
 
   public FieldLocation field(String field) {
-    List<String> decomposedPathWithField = new ArrayList<>(decomposedPath);
-    decomposedPathWithField.add(field);
-    return new FieldLocation(decomposedPathWithField);
+    return new FieldLocation(this, field);
   }
 
   public String getPathToUseInErrorReport() {
-    return String.join(FIELD_SEPARATOR, decomposedPath);
+    return String.join(FIELD_SEPARATOR, getDecomposedPath());
   }
 
   public String getFieldName() {
-    if (decomposedPath.isEmpty()) return "";
-    return decomposedPath.get(decomposedPath.size() - 1);
+    return fieldName;
   }
 
   public boolean isRoot() {
     // Root is the top level object compared or in case of the top level is an iterable/array the elements are
     // considered as roots.
     // We don't do it for optional since it has a 'value' field (at least for now)
-    return isRootPath(pathToUseInRules);
+    return isRootPath(getPathToUseInRules());
   }
 
-  private boolean isRootPath(String pathToUseInRules) {
+  private static boolean isRootPath(String pathToUseInRules) {
     return pathToUseInRules.isEmpty();
   }
 
   public boolean isTopLevelField() {
-    return !isRoot() && !pathToUseInRules.contains(FIELD_SEPARATOR);
+    return !isRoot() && !getPathToUseInRules().contains(FIELD_SEPARATOR);
   }
 
   public static FieldLocation rootFieldLocation() {
-    return new FieldLocation(emptyList());
+    return ROOT;
   }
 
   /**
@@ -242,8 +289,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true if this has the given parent (direct or indirect), false otherwise.
    */
   public boolean hasParent(FieldLocation parent) {
-    // FIELD_SEPARATOR guarantees that we compare path elements, this avoids making "name" a parent of "names"
-    return pathToUseInRules.startsWith(parent.pathToUseInRules + FIELD_SEPARATOR);
+    return isParentPath(parent.getPathToUseInRules(), getPathToUseInRules());
   }
 
   /**
@@ -271,19 +317,14 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return child.hasParent(this);
   }
 
-  private Set<String> pathsHierarchyToUseInRules() {
-    // using LinkedHashSet to maintain leaf to root iteration order
-    // so that hierarchyMatchesRegex can try matching from the longest to the shortest path
-    Set<String> fieldAndParentFields = newLinkedHashSet();
-    String currentPath = this.pathToUseInRules;
-    while (!isRootPath(currentPath)) {
-      fieldAndParentFields.add(currentPath);
-      currentPath = parent(currentPath);
-    }
-    return unmodifiableSet(fieldAndParentFields);
+  private static boolean isParentPath(String parentPath, String path) {
+    // FIELD_SEPARATOR guarantees that we compare path elements, this avoids making "name" a parent of "names"
+    return path.length() > parentPath.length()
+           && path.startsWith(parentPath)
+           && path.startsWith(FIELD_SEPARATOR, parentPath.length());
   }
 
-  private String parent(String currentPath) {
+  private static String parent(String currentPath) {
     int lastDot = currentPath.lastIndexOf(FIELD_SEPARATOR);
     if (lastDot < 0) {
       return "";
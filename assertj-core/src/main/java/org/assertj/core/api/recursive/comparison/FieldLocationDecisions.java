@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Memoizes the {@link RecursiveComparisonConfiguration} decisions that only depend on the path used in rules of the
+ * evaluated field locations (or on the type of the evaluated values).
+ * <p>
+ * Rules apply to all the elements of a collection as their path used in rules does not include their index, comparing big
+ * object graphs thus evaluates the same paths over and over, with memoized decisions each node costs a map lookup instead
+ * of going through all the ignored/compared fields and matching all the regexes against the whole field hierarchy.
+ * <p>
+ * Decisions must only be memoized while the configuration is not modified, that is for the duration of a comparison, each
+ * comparison thus has its own decisions.
+ */
+final class FieldLocationDecisions {
+
+  // for the decisions taken outside of a comparison, the configuration can still be modified afterwards
+  static final FieldLocationDecisions NOT_MEMOIZED = new FieldLocationDecisions(false);
+
+  enum Decision {
+    IGNORED_FIELD,
+    COMPARED_FIELD,
+    EXACTLY_COMPARED_FIELD,
+    CHILD_OF_COMPARED_FIELD,
+    IGNORED_COLLECTION_ORDER,
+    IGNORED_OVERRIDDEN_EQUALS
+  }
+
+  // use ConcurrentHashMap as the comparison can be performed in parallel
+  private final Map<Decision, Map<String, Boolean>> decisionsByPathToUseInRules = new EnumMap<>(Decision.class);
+  private final Map<Class<?>, Boolean> ignoredTypes = new ConcurrentHashMap<>();
+  private final boolean memoized;
+
+  FieldLocationDecisions() {
+    this(true);
+  }
+
+  private FieldLocationDecisions(boolean memoized) {
+    this.memoized = memoized;
+    for (Decision decision : Decision.values()) {
+      decisionsByPathToUseInRules.put(decision, new ConcurrentHashMap<>());
+    }
+  }
+
+  boolean decide(Decision decision, FieldLocation fieldLocation, Predicate<FieldLocation> rules) {
+    if (!memoized) return rules.test(fieldLocation);
+    Map<String, Boolean> decisions = decisionsByPathToUseInRules.get(decision);
+    String pathToUseInRules = fieldLocation.getPathToUseInRules();
+    Boolean decided = decisions.get(pathToUseInRules);
+    if (decided != null) return decided;
+    // not using computeIfAbsent to avoid locking while evaluating rules, evaluating twice is harmless
+    boolean decidedFromRules = rules.test(fieldLocation);
+    decisions.put(pathToUseInRules, decidedFromRules);
+    return decidedFromRules;
+  }
+
+  boolean isIgnoredType(Class<?> type, Predicate<Class<?>> rules) {
+    if (!memoized) return rules.test(type);
+    Boolean decided = ignoredTypes.get(type);
+    if (decided != null) return decided;
+    boolean decidedFromRules = rules.test(type);
+    ignoredTypes.put(type, decidedFromRules);
+    return decidedFromRules;
+  }
+
+}
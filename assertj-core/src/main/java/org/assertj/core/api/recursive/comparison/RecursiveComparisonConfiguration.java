@@ -18,12 +18,20 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.Decision.CHILD_OF_COMPARED_FIELD;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.Decision.COMPARED_FIELD;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.Decision.EXACTLY_COMPARED_FIELD;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.Decision.IGNORED_COLLECTION_ORDER;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.Decision.IGNORED_FIELD;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.Decision.IGNORED_OVERRIDDEN_EQUALS;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.NOT_MEMOIZED;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.data.MapEntry.entry;
 import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.util.ArrayList;
@@ -97,6 +105,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   private boolean compareEnumAgainstString = false;
 
+  private int parallelism = 1;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     super(builder);
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
@@ -117,6 +127,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.fieldMessages = builder.fieldMessages;
     this.typeMessages = builder.typeMessages;
     this.introspectionStrategy = builder.introspectionStrategy;
+    this.parallelism = builder.parallelism;
     this.representation = builder.representation != null ? builder.representation : STANDARD_REPRESENTATION;
   }
 
@@ -278,9 +289,14 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   @VisibleForTesting
   public boolean isOrIsChildOfAnyComparedFields(FieldLocation currentFieldLocation) {
-    return comparedFields.stream()
-                         .anyMatch(comparedField -> comparedField.equals(currentFieldLocation)
-                                                    || comparedField.hasChild(currentFieldLocation));
+    return isOrIsChildOfAnyComparedFields(currentFieldLocation, NOT_MEMOIZED);
+  }
+
+  boolean isOrIsChildOfAnyComparedFields(FieldLocation currentFieldLocation, FieldLocationDecisions decisions) {
+    return comparedFields.contains(currentFieldLocation)
+           || decisions.decide(CHILD_OF_COMPARED_FIELD, currentFieldLocation,
+                               fieldLocation -> comparedFields.stream()
+                                                              .anyMatch(comparedField -> comparedField.hasChild(fieldLocation)));
   }
 
   /**
@@ -621,6 +637,24 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return this.compareEnumAgainstString;
   }
 
+  /**
+   * Sets the number of threads used to compare the independent parts of the object graphs, default to 1 meaning that the
+   * recursive comparison is performed in the calling thread.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for more details.
+   *
+   * @param parallelism the number of threads used to compare the object graphs.
+   * @throws IllegalArgumentException if the given parallelism is not strictly positive.
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism > 0, "The parallelism must be strictly positive but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
   @Override
   public String toString() {
     return multiLineDescription(CONFIGURATION_PROVIDER.representation());
@@ -634,7 +668,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                   getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
                                   ignoredOverriddenEqualsForTypes, ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                   getIgnoredTypes(), strictTypeChecking, typeComparators, comparedFields, comparedTypes,
-                                  fieldMessages, typeMessages, compareEnumAgainstString);
+                                  fieldMessages, typeMessages, compareEnumAgainstString, parallelism);
   }
 
   @Override
@@ -664,7 +698,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            && java.util.Objects.equals(ignoredCollectionOrderInFieldsMatchingRegexes,
                                        other.ignoredCollectionOrderInFieldsMatchingRegexes)
            && java.util.Objects.equals(fieldMessages, other.fieldMessages)
-           && java.util.Objects.equals(typeMessages, other.typeMessages);
+           && java.util.Objects.equals(typeMessages, other.typeMessages)
+           && parallelism == other.parallelism;
   }
 
   public String multiLineDescription(Representation representation) {
@@ -689,28 +724,38 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeRegisteredErrorMessagesForTypes(description);
     describeIntrospectionStrategy(description);
     describeCompareEnumAgainstString(description);
+    describeParallelism(description);
     return description.toString();
   }
 
   @VisibleForTesting
   public boolean shouldNotEvaluate(DualValue dualValue) {
+    return shouldNotEvaluate(dualValue, NOT_MEMOIZED);
+  }
+
+  boolean shouldNotEvaluate(DualValue dualValue, FieldLocationDecisions decisions) {
     // if we have some compared types, we can't discard any values since they could have fields we need to compare.
     if (!comparedTypes.isEmpty()) return false;
-    return shouldIgnore(dualValue);
+    return shouldIgnore(dualValue, decisions);
   }
 
   @VisibleForTesting
   public boolean shouldIgnore(DualValue dualValue) {
-    return shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation)
-           || shouldIgnoreFieldBasedOnFieldValue(dualValue);
+    return shouldIgnore(dualValue, NOT_MEMOIZED);
+  }
+
+  boolean shouldIgnore(DualValue dualValue, FieldLocationDecisions decisions) {
+    return shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation, decisions)
+           || shouldIgnoreFieldBasedOnFieldValue(dualValue, decisions);
   }
 
-  private boolean shouldBeCompared(DualValue dualValue) {
+  private boolean shouldBeCompared(DualValue dualValue, FieldLocationDecisions decisions) {
     // no comparedFields and comparedTypes <=> no restriction on compared fields => everything must be compared
     if (comparedFields.isEmpty() && comparedTypes.isEmpty()) return true;
     // if we have compared types, we can't ignore any values since they could have fields of types to compare
     if (!comparedTypes.isEmpty()) return true;
-    return comparedFields.stream().anyMatch(matchesComparedField(dualValue.fieldLocation));
+    return decisions.decide(COMPARED_FIELD, dualValue.fieldLocation,
+                            fieldLocation -> comparedFields.stream().anyMatch(matchesComparedField(fieldLocation)));
   }
 
   private static Predicate<FieldLocation> matchesComparedField(FieldLocation field) {
@@ -725,6 +770,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   @VisibleForTesting
   public Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue) {
+    return getActualChildrenNodeNamesToCompare(dualValue, NOT_MEMOIZED);
+  }
+
+  Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue, FieldLocationDecisions decisions) {
     Set<String> actualChildrenNodeNames = getChildrenNodeNamesOf(dualValue.actual);
     // if we have some compared types, we can't discard any nodes since they could have fields we need to compare.
     // we could evaluate the whole graphs to figure that but that would be bad performance wise so add everything
@@ -739,11 +788,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     // DualValues are built by introspecting node values which is expensive.
     return actualChildrenNodeNames.stream()
                                   // evaluate field name ignoring criteria on dualValue field location + field name
-                                  .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
+                                  .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName),
+                                                                                              decisions))
                                   .map(fieldName -> dualValueForField(dualValue, fieldName))
                                   // evaluate field value ignoring criteria
-                                  .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
-                                  .filter(this::shouldBeCompared)
+                                  .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue, decisions))
+                                  .filter(fieldDualValue -> shouldBeCompared(fieldDualValue, decisions))
                                   // back to field name
                                   .map(DualValue::getFieldName)
                                   .filter(fieldName -> !fieldName.isEmpty())
@@ -760,14 +810,15 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // non accessible stuff
 
-  private boolean shouldIgnoreFieldBasedOnFieldValue(DualValue dualValue) {
+  private boolean shouldIgnoreFieldBasedOnFieldValue(DualValue dualValue, FieldLocationDecisions decisions) {
     return matchesAnIgnoredNullField(dualValue)
-           || matchesAnIgnoredFieldType(dualValue)
+           || matchesAnIgnoredFieldType(dualValue, decisions)
            || matchesAnIgnoredEmptyOptionalField(dualValue);
   }
 
-  private boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
-    return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
+  private boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation, FieldLocationDecisions decisions) {
+    return decisions.decide(IGNORED_FIELD, fieldLocation,
+                            location -> matchesAnIgnoredField(location) || matchesAnIgnoredFieldRegex(location));
   }
 
   private DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
@@ -796,6 +847,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   @VisibleForTesting
   public boolean shouldIgnoreOverriddenEqualsOf(DualValue dualValue) {
+    return shouldIgnoreOverriddenEqualsOf(dualValue, NOT_MEMOIZED);
+  }
+
+  boolean shouldIgnoreOverriddenEqualsOf(DualValue dualValue, FieldLocationDecisions decisions) {
     // root objects are not compared with equals as it makes the recursive comparison pointless (use isEqualsTo instead)
     if (dualValue.fieldLocation.isRoot()) return true;
     // we must compare java basic types otherwise the recursive comparison loops infinitely!
@@ -804,9 +859,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     if (dualValue.isActualAnEnum()) return false;
     // if there are some compared fields, we must only honor overridden equals on them, if the value is not a compared
     // field then we treat as usual and ignore its equals method and introspects it
-    if (someComparedFieldsHaveBeenSpecified() && !exactlyMatchesAnyComparedFields(dualValue)) return true;
+    if (someComparedFieldsHaveBeenSpecified() && !exactlyMatchesAnyComparedFields(dualValue, decisions)) return true;
     return ignoreAllOverriddenEquals
-           || matchesAnIgnoredOverriddenEqualsField(dualValue)
+           || matchesAnIgnoredOverriddenEqualsField(dualValue, decisions)
            || (dualValue.actual != null && shouldIgnoreOverriddenEqualsOf(dualValue.actual.getClass()));
   }
 
@@ -817,9 +872,14 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   @VisibleForTesting
   public boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation) {
+    return shouldIgnoreCollectionOrder(fieldLocation, NOT_MEMOIZED);
+  }
+
+  boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation, FieldLocationDecisions decisions) {
     return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(fieldLocation)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+           || decisions.decide(IGNORED_COLLECTION_ORDER, fieldLocation,
+                               location -> matchesAnIgnoredCollectionOrderInField(location)
+                                           || matchesAnIgnoredCollectionOrderInFieldRegex(location));
   }
 
   private void describeComparedFields(StringBuilder description) {
@@ -917,6 +977,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append(format("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n"));
   }
 
+  private void describeParallelism(StringBuilder description) {
+    if (parallelism > 1)
+      description.append(format("- independent parts of the compared objects were compared in parallel using %s threads%n",
+                                parallelism));
+  }
+
   private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
     if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
     String pathToUseInRules = fieldLocation.getPathToUseInRules();
@@ -927,10 +993,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return ignoredOverriddenEqualsForTypes.contains(clazz);
   }
 
-  private boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue) {
-    FieldLocation fieldLocation = dualValue.fieldLocation;
-    return ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::exactlyMatches)
-           || matchesAnIgnoredOverriddenEqualsRegex(fieldLocation);
+  private boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue, FieldLocationDecisions decisions) {
+    return decisions.decide(IGNORED_OVERRIDDEN_EQUALS, dualValue.fieldLocation,
+                            fieldLocation -> ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::exactlyMatches)
+                                             || matchesAnIgnoredOverriddenEqualsRegex(fieldLocation));
   }
 
   private boolean matchesAnIgnoredNullField(DualValue dualValue) {
@@ -943,21 +1009,20 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            && dualValue.isActualFieldAnEmptyOptionalOfAnyType();
   }
 
-  private boolean matchesAnIgnoredFieldType(DualValue dualValue) {
+  private boolean matchesAnIgnoredFieldType(DualValue dualValue, FieldLocationDecisions decisions) {
     Object actual = dualValue.actual;
-    if (actual != null) return matchesAnIgnoredType(actual);
+    if (actual != null) return decisions.isIgnoredType(actual.getClass(), this::matchesAnIgnoredType);
     Object expected = dualValue.expected;
     // actual is null => we can't evaluate its type, we can only reliably check dualValue.expected's type if
     // strictTypeChecking is enabled which guarantees expected is of the same type.
-    if (strictTypeChecking && expected != null) return matchesAnIgnoredType(expected);
+    if (strictTypeChecking && expected != null) return decisions.isIgnoredType(expected.getClass(), this::matchesAnIgnoredType);
     // if strictTypeChecking is disabled, we can't safely ignore the field (if we did, we would ignore all null fields!).
     return false;
   }
 
-  private boolean matchesAnIgnoredType(Object actual) {
-    Class<?> actualType = actual.getClass();
-    return getIgnoredTypes().contains(actualType)
-           || getIgnoredTypesRegexes().stream().anyMatch(regex -> regex.matcher(actualType.getName()).matches());
+  private boolean matchesAnIgnoredType(Class<?> type) {
+    return getIgnoredTypes().contains(type)
+           || getIgnoredTypesRegexes().stream().anyMatch(regex -> regex.matcher(type.getName()).matches());
   }
 
   private void registerFieldLocationOfFieldsOfTypesToCompare(DualValue dualValue) {
@@ -1167,8 +1232,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return valueToCheck != null && comparedTypes.contains(valueToCheck.getClass());
   }
 
-  boolean exactlyMatchesAnyComparedFields(DualValue dualValue) {
-    return comparedFields.stream().anyMatch(comparedField -> comparedField.exactlyMatches(dualValue.fieldLocation));
+  boolean exactlyMatchesAnyComparedFields(DualValue dualValue, FieldLocationDecisions decisions) {
+    return decisions.decide(EXACTLY_COMPARED_FIELD, dualValue.fieldLocation,
+                            fieldLocation -> comparedFields.stream().anyMatch(fieldLocation::exactlyMatches));
   }
 
   /**
@@ -1195,6 +1261,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     private final TypeMessages typeMessages = new TypeMessages();
 
     private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
+    private int parallelism = 1;
 
     private Builder() {
       super(Builder.class);
@@ -1571,6 +1638,22 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Sets the number of threads used to compare the independent parts of the object graphs, default to 1 meaning that the
+     * recursive comparison is performed in the calling thread.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withParallelism(int)} for more details.
+     *
+     * @param parallelism the number of threads used to compare the object graphs.
+     * @return this builder.
+     * @throws IllegalArgumentException if the given parallelism is not strictly positive.
+     */
+    public Builder withParallelism(int parallelism) {
+      checkArgument(parallelism > 0, "The parallelism must be strictly positive but was %s", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
     public RecursiveComparisonConfiguration build() {
       return new RecursiveComparisonConfiguration(this);
     }
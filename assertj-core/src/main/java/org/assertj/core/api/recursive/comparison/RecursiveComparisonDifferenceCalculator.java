@@ -14,15 +14,14 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Objects.deepEquals;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.IterableUtil.sizeOf;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newHashSet;
 
 import java.lang.reflect.Array;
@@ -30,8 +29,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -39,6 +40,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -73,6 +76,8 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // dual values compared in parallel are split in more parts than threads to balance their workload
+  private static final int PARTS_PER_THREAD = 4;
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -80,12 +85,16 @@ public class RecursiveComparisonDifferenceCalculator {
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // the configuration is not modified during a comparison, its decisions on field locations can be memoized
+    FieldLocationDecisions fieldLocationDecisions;
 
     public ComparisonState(VisitedDualValues visitedDualValues,
-                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+                           RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                           FieldLocationDecisions fieldLocationDecisions) {
       this.visitedDualValues = visitedDualValues;
-      this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
+      this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration, fieldLocationDecisions);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.fieldLocationDecisions = fieldLocationDecisions;
     }
 
     void addDifference(DualValue dualValue) {
@@ -101,12 +110,12 @@ public class RecursiveComparisonDifferenceCalculator {
         // the comparison includes the union of fields of compared types and compared fields, if the difference is
         // reported on a field whose type is not in the compared types, we should ignore the difference unless it was
         // on a field from the set of compared fields.
-        if (!recursiveComparisonConfiguration.exactlyMatchesAnyComparedFields(dualValue)
+        if (!recursiveComparisonConfiguration.exactlyMatchesAnyComparedFields(dualValue, fieldLocationDecisions)
             && !recursiveComparisonConfiguration.matchesOrIsChildOfFieldMatchingAnyComparedTypes(dualValue))
           // was not a field we had to compared
           return;
         // check if the value was meant to be ignored, if it is the case simply skip the difference
-        if (recursiveComparisonConfiguration.shouldIgnore(dualValue)) return;
+        if (recursiveComparisonConfiguration.shouldIgnore(dualValue, fieldLocationDecisions)) return;
       }
 
       String customErrorMessage = getCustomErrorMessage(dualValue);
@@ -140,7 +149,7 @@ public class RecursiveComparisonDifferenceCalculator {
     private void initDualValuesToCompare(Object actual, Object expected, FieldLocation nodeLocation) {
       // before anything are these values to be compared at all?
       DualValue dualValue = new DualValue(nodeLocation, actual, expected);
-      if (recursiveComparisonConfiguration.shouldNotEvaluate(dualValue)) return;
+      if (recursiveComparisonConfiguration.shouldNotEvaluate(dualValue, fieldLocationDecisions)) return;
       boolean mustCompareNodesRecursively = mustCompareNodesRecursively(dualValue);
       if (dualValue.hasNoNullValues() && mustCompareNodesRecursively) {
         // disregard the equals method and start comparing fields
@@ -150,7 +159,7 @@ public class RecursiveComparisonDifferenceCalculator {
           recursiveComparisonConfiguration.checkComparedFieldsExist(actual);
         }
         // TODO should fail if actual and expected don't have the same fields (taking into account ignored/compared fields)
-        Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
+        Set<String> actualChildrenNodeNamesToCompare = getActualChildrenNodeNamesToCompare(dualValue);
         if (!actualChildrenNodeNamesToCompare.isEmpty()) {
           // fields to ignore are evaluated when adding their corresponding dualValues to dualValuesToCompare which filters
           // ignored fields according to recursiveComparisonConfiguration
@@ -175,9 +184,17 @@ public class RecursiveComparisonDifferenceCalculator {
       }
     }
 
+    private Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue) {
+      return recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue, fieldLocationDecisions);
+    }
+
+    private boolean shouldIgnoreOverriddenEqualsOf(DualValue dualValue) {
+      return recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue, fieldLocationDecisions);
+    }
+
     private boolean mustCompareNodesRecursively(DualValue dualValue) {
       return !recursiveComparisonConfiguration.hasCustomComparator(dualValue)
-             && !shouldHonorEquals(dualValue, recursiveComparisonConfiguration)
+             && !shouldHonorEquals(dualValue, this)
              && dualValue.hasNoContainerValues();
     }
 
@@ -232,195 +249,269 @@ public class RecursiveComparisonDifferenceCalculator {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
       return list(expectedAndActualTypeDifference(actual, expected));
     }
-    return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(), recursiveComparisonConfiguration);
+    FieldLocationDecisions fieldLocationDecisions = new FieldLocationDecisions();
+    // compared types require to track field locations in the configuration while comparing, this can't be done concurrently
+    if (recursiveComparisonConfiguration.getParallelism() > 1 && !recursiveComparisonConfiguration.hasComparedTypes()) {
+      return determineDifferencesInParallel(actual, expected, recursiveComparisonConfiguration, fieldLocationDecisions);
+    }
+    return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(),
+                                recursiveComparisonConfiguration, fieldLocationDecisions);
+  }
+
+  private static List<ComparisonDifference> determineDifferencesInParallel(Object actual, Object expected,
+                                                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                           FieldLocationDecisions fieldLocationDecisions) {
+    int parallelism = recursiveComparisonConfiguration.getParallelism();
+    int partsCount = parallelism * PARTS_PER_THREAD;
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration,
+                                                          fieldLocationDecisions);
+    comparisonState.initDualValuesToCompare(actual, expected, rootFieldLocation());
+    // compare the root values until there are enough dual values left to compare to split them in parts
+    while (comparisonState.hasDualValuesToCompare() && comparisonState.dualValuesToCompare.size() < partsCount) {
+      compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+    }
+    if (!comparisonState.hasDualValuesToCompare()) return comparisonState.getDifferences();
+    // dual values are compared depth first, the dual values left are thus compared one after the other with all their
+    // children, comparing contiguous parts of them in order and concatenating the parts differences gives the same
+    // differences as comparing them sequentially as long as the parts don't visit the same values.
+    List<ComparisonState> partComparisonStates = new ArrayList<>();
+    List<DualValue> dualValuesToCompare = comparisonState.dualValuesToCompare;
+    int dualValuesCount = dualValuesToCompare.size();
+    int partsToCompareCount = Math.min(partsCount, dualValuesCount);
+    Iterator<DualValue> dualValuesToCompareIterator = dualValuesToCompare.iterator();
+    for (int part = 0; part < partsToCompareCount; part++) {
+      ComparisonState partComparisonState = new ComparisonState(visitedDualValues.independentVisitedDualValues(),
+                                                                recursiveComparisonConfiguration, fieldLocationDecisions);
+      // spread the remaining dual values evenly, keeping their order
+      int partSize = dualValuesCount * (part + 1) / partsToCompareCount - dualValuesCount * part / partsToCompareCount;
+      for (int i = 0; i < partSize; i++) {
+        partComparisonState.dualValuesToCompare.addLast(dualValuesToCompareIterator.next());
+      }
+      partComparisonStates.add(partComparisonState);
+    }
+    List<ForkJoinTask<List<ComparisonDifference>>> partComparisons = new ArrayList<>();
+    ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+    try {
+      for (ComparisonState partComparisonState : partComparisonStates) {
+        partComparisons.add(forkJoinPool.submit(() -> compareAll(partComparisonState)));
+      }
+      partComparisons.forEach(ForkJoinTask::quietlyJoin);
+    } finally {
+      forkJoinPool.shutdown();
+    }
+    boolean allPartsCompared = partComparisons.stream().allMatch(ForkJoinTask::isCompletedNormally);
+    List<VisitedDualValues> partsVisitedDualValues = new ArrayList<>();
+    partComparisonStates.forEach(partComparisonState -> partsVisitedDualValues.add(partComparisonState.visitedDualValues));
+    if (!allPartsCompared || VisitedDualValues.haveVisitedCommonDualValues(partsVisitedDualValues)) {
+      // the parts were not independent or failed (possibly because of values compared by another part), only the sequential
+      // comparison gives the expected differences or error
+      return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(),
+                                  recursiveComparisonConfiguration, fieldLocationDecisions);
+    }
+    // the parts differences have not been sorted, sorting them all together is the same as in the sequential comparison
+    partComparisons.forEach(partComparison -> comparisonState.differences.addAll(partComparison.join()));
+    return comparisonState.getDifferences();
+  }
+
+  private static List<ComparisonDifference> compareAll(ComparisonState comparisonState) {
+    while (comparisonState.hasDualValuesToCompare()) {
+      compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+    }
+    return comparisonState.differences;
   }
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
   private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, FieldLocation fieldLocation,
                                                                  VisitedDualValues visitedDualValues,
-                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                 FieldLocationDecisions fieldLocationDecisions) {
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration,
+                                                          fieldLocationDecisions);
     comparisonState.initDualValuesToCompare(actual, expected, fieldLocation);
 
-    while (comparisonState.hasDualValuesToCompare()) {
+    compareAll(comparisonState);
+    return comparisonState.getDifferences();
+  }
 
-      final DualValue dualValue = comparisonState.pickDualValueToCompare();
-      if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
-        // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
-        // only compare the Person type, we must compare the Person fields too even though they are not of type Person
-        recursiveComparisonConfiguration.registerFieldLocationToCompareBecauseOfTypesToCompare(dualValue.fieldLocation);
-      }
+  private static void compareDualValue(final DualValue dualValue, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
+      // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
+      // only compare the Person type, we must compare the Person fields too even though they are not of type Person
+      recursiveComparisonConfiguration.registerFieldLocationToCompareBecauseOfTypesToCompare(dualValue.fieldLocation);
+    }
 
-      // if we have already visited the dual value, no need to compute the comparison differences again, this also avoid cycles
-      Optional<List<ComparisonDifference>> comparisonDifferences = comparisonState.visitedDualValues.registeredComparisonDifferencesOf(dualValue);
-      if (comparisonDifferences.isPresent()) {
-        if (!comparisonDifferences.get().isEmpty()) {
-          comparisonState.addDifference(dualValue, "already visited node but now location is: " + dualValue.fieldLocation);
-        }
-        continue;
+    // if we have already visited the dual value, no need to compute the comparison differences again, this also avoid cycles
+    Optional<List<ComparisonDifference>> comparisonDifferences = comparisonState.visitedDualValues.registeredComparisonDifferencesOf(dualValue);
+    if (comparisonDifferences.isPresent()) {
+      if (!comparisonDifferences.get().isEmpty()) {
+        comparisonState.addDifference(dualValue, "already visited node but now location is: " + dualValue.fieldLocation);
       }
+      return;
+    }
 
-      // first time we evaluate this dual value, perform the usual recursive comparison from there
-
-      // visited dual values are tracked to avoid cycle
-      if (recursiveComparisonConfiguration.someComparedFieldsHaveBeenSpecified()) {
-        // only track dual values if their field location is a compared field or a child of one that could have cycles,
-        // before we get to a compared field, tracking dual values is wrong, ex: given a person root object with a
-        // neighbour.neighbour field that cycles back to itself, and we compare neighbour.neighbour.name, if we track
-        // visited all dual values, we would not introspect neighbour.neighbour as it was already visited as root.
-        if (recursiveComparisonConfiguration.isOrIsChildOfAnyComparedFields(dualValue.fieldLocation)
-            && dualValue.hasPotentialCyclingValues()) {
-          comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
-        }
-      } else if (dualValue.hasPotentialCyclingValues()) {
+    // first time we evaluate this dual value, perform the usual recursive comparison from there
+
+    // visited dual values are tracked to avoid cycle
+    if (recursiveComparisonConfiguration.someComparedFieldsHaveBeenSpecified()) {
+      // only track dual values if their field location is a compared field or a child of one that could have cycles,
+      // before we get to a compared field, tracking dual values is wrong, ex: given a person root object with a
+      // neighbour.neighbour field that cycles back to itself, and we compare neighbour.neighbour.name, if we track
+      // visited all dual values, we would not introspect neighbour.neighbour as it was already visited as root.
+      if (recursiveComparisonConfiguration.isOrIsChildOfAnyComparedFields(dualValue.fieldLocation,
+                                                                          comparisonState.fieldLocationDecisions)
+          && dualValue.hasPotentialCyclingValues()) {
         comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
       }
+    } else if (dualValue.hasPotentialCyclingValues()) {
+      comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
+    }
 
-      final Object actualFieldValue = dualValue.actual;
-      final Object expectedFieldValue = dualValue.expected;
+    final Object actualFieldValue = dualValue.actual;
+    final Object expectedFieldValue = dualValue.expected;
 
-      // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
-        if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
-        // since we used a custom comparator we don't need to inspect the nested fields any further
-        continue;
-      }
+    // Custom comparators take precedence over all other types of comparison
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
+      if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      // since we used a custom comparator we don't need to inspect the nested fields any further
+      return;
+    }
 
-      if (actualFieldValue == expectedFieldValue) continue;
+    if (actualFieldValue == expectedFieldValue) return;
 
-      if (actualFieldValue == null || expectedFieldValue == null) {
-        // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
-        comparisonState.addDifference(dualValue);
-        continue;
-      }
+    if (actualFieldValue == null || expectedFieldValue == null) {
+      // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
+      comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      if (dualValue.isExpectedAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      if (dualValue.isActualAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      // TODO move hasFieldTypesDifference check into each compareXXX
+    if (dualValue.isExpectedAnEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    if (dualValue.isActualAnEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    // TODO move hasFieldTypesDifference check into each compareXXX
 
-      if (dualValue.isExpectedFieldAnArray()) {
-        compareArrays(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnArray()) {
+      compareArrays(dualValue, comparisonState);
+      return;
+    }
 
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
+    // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+    // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+    if (dualValue.isExpectedFieldAnOrderedCollection()
+        && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation,
+                                                                         comparisonState.fieldLocationDecisions)) {
+      compareOrderedCollections(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnIterable()) {
-        compareUnorderedIterables(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnIterable()) {
+      compareUnorderedIterables(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnOptional()) {
+      compareOptional(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
+    if (dualValue.isExpectedFieldASortedMap()) {
+      compareSortedMap(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+    // temporary Map must be created, however the comparison still runs in O(N) time.
+    if (dualValue.isExpectedFieldAMap()) {
+      compareUnorderedMap(dualValue, comparisonState);
+      return;
+    }
 
-      // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
-      if (dualValue.isExpectedFieldAnAtomicBoolean()) {
-        compareAtomicBoolean(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicInteger()) {
-        compareAtomicInteger(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
-        compareAtomicIntegerArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLong()) {
-        compareAtomicLong(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLongArray()) {
-        compareAtomicLongArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReference()) {
-        compareAtomicReference(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
-        compareAtomicReferenceArray(dualValue, comparisonState);
-        continue;
-      }
+    // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
+    if (dualValue.isExpectedFieldAnAtomicBoolean()) {
+      compareAtomicBoolean(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicInteger()) {
+      compareAtomicInteger(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
+      compareAtomicIntegerArray(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicLong()) {
+      compareAtomicLong(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicLongArray()) {
+      compareAtomicLongArray(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicReference()) {
+      compareAtomicReference(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
+      compareAtomicReferenceArray(dualValue, comparisonState);
+      return;
+    }
 
-      boolean shouldHonorJavaTypeEquals = shouldHonorJavaTypeEquals(dualValue);
-      if (shouldHonorJavaTypeEquals || shouldHonorOverriddenEquals(dualValue, recursiveComparisonConfiguration)) {
-        if (!actualFieldValue.equals(expectedFieldValue)) {
-          String description = shouldHonorJavaTypeEquals
-              ? "Compared objects have java types and were thus compared with equals method"
-              : "Compared objects were compared with equals method";
-          comparisonState.addDifference(dualValue, description);
-        }
-        continue;
+    boolean shouldHonorJavaTypeEquals = shouldHonorJavaTypeEquals(dualValue);
+    if (shouldHonorJavaTypeEquals || shouldHonorOverriddenEquals(dualValue, comparisonState)) {
+      if (!actualFieldValue.equals(expectedFieldValue)) {
+        String description = shouldHonorJavaTypeEquals
+            ? "Compared objects have java types and were thus compared with equals method"
+            : "Compared objects were compared with equals method";
+        comparisonState.addDifference(dualValue, description);
       }
+      return;
+    }
 
-      Class<?> actualFieldValueClass = actualFieldValue.getClass();
-      Class<?> expectedFieldClass = expectedFieldValue.getClass();
-      if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
-        comparisonState.addDifference(dualValue,
-                                      format(STRICT_TYPE_ERROR, expectedFieldClass.getName(), actualFieldValueClass.getName()));
-        continue;
-      }
+    Class<?> actualFieldValueClass = actualFieldValue.getClass();
+    Class<?> expectedFieldClass = expectedFieldValue.getClass();
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
+      comparisonState.addDifference(dualValue,
+                                    format(STRICT_TYPE_ERROR, expectedFieldClass.getName(), actualFieldValueClass.getName()));
+      return;
+    }
 
-      Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
-      Set<String> expectedChildrenNodesNames = recursiveComparisonConfiguration.getChildrenNodeNamesOf(expectedFieldValue);
-      // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
-
-      // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
-      if (!expectedChildrenNodesNames.containsAll(actualChildrenNodeNamesToCompare)) {
-        // report missing nodes in actual
-        Set<String> actualNodesNamesNotInExpected = newHashSet(actualChildrenNodeNamesToCompare);
-        actualNodesNamesNotInExpected.removeAll(expectedChildrenNodesNames);
-        String missingNodes = actualNodesNamesNotInExpected.toString();
-        String expectedClassName = expectedFieldClass.getName();
-        String actualClassName = actualFieldValueClass.getName();
-        String missingNodesDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
-                                                expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
-                                                missingNodes);
-        comparisonState.addDifference(dualValue, missingNodesDescription);
-      } else { // TODO remove else to report more diff
-        // compare actual's children nodes against expected:
-        // - if actual has more nodes than expected, the additional nodes are ignored as expected is the reference
-        for (String actualChildNodeName : actualChildrenNodeNamesToCompare) {
-          if (expectedChildrenNodesNames.contains(actualChildNodeName)) {
-            Object actualChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, actualFieldValue);
-            Object expectedChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, expectedFieldValue);
-            DualValue newDualValue = new DualValue(dualValue.fieldLocation.field(actualChildNodeName),
-                                                   actualChildNodeValue, expectedChildNodeValue);
-            comparisonState.registerForComparison(newDualValue);
-          }
+    Set<String> actualChildrenNodeNamesToCompare = comparisonState.getActualChildrenNodeNamesToCompare(dualValue);
+    Set<String> expectedChildrenNodesNames = recursiveComparisonConfiguration.getChildrenNodeNamesOf(expectedFieldValue);
+    // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
+
+    // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
+    if (!expectedChildrenNodesNames.containsAll(actualChildrenNodeNamesToCompare)) {
+      // report missing nodes in actual
+      Set<String> actualNodesNamesNotInExpected = newHashSet(actualChildrenNodeNamesToCompare);
+      actualNodesNamesNotInExpected.removeAll(expectedChildrenNodesNames);
+      String missingNodes = actualNodesNamesNotInExpected.toString();
+      String expectedClassName = expectedFieldClass.getName();
+      String actualClassName = actualFieldValueClass.getName();
+      String missingNodesDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
+                                              expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
+                                              missingNodes);
+      comparisonState.addDifference(dualValue, missingNodesDescription);
+    } else { // TODO remove else to report more diff
+      // compare actual's children nodes against expected:
+      // - if actual has more nodes than expected, the additional nodes are ignored as expected is the reference
+      for (String actualChildNodeName : actualChildrenNodeNamesToCompare) {
+        if (expectedChildrenNodesNames.contains(actualChildNodeName)) {
+          Object actualChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, actualFieldValue);
+          Object expectedChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, expectedFieldValue);
+          DualValue newDualValue = new DualValue(dualValue.fieldLocation.field(actualChildNodeName),
+                                                 actualChildNodeValue, expectedChildNodeValue);
+          comparisonState.registerForComparison(newDualValue);
         }
       }
     }
-    return comparisonState.getDifferences();
   }
 
   // avoid comparing enum recursively since they contain static fields which are ignored in recursive comparison
@@ -465,21 +556,19 @@ public class RecursiveComparisonDifferenceCalculator {
     comparisonState.addDifference(dualValue, typeErrorMessage);
   }
 
-  private static boolean shouldHonorEquals(DualValue dualValue,
-                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+  private static boolean shouldHonorEquals(DualValue dualValue, ComparisonState comparisonState) {
     // since java 17 we can't introspect java types and get their fields so by default we compare them with equals
     // unless for some container like java types: iterables, array, optional, atomic values where we take the contained values
     // through accessors and register them in the recursive comparison.
-    return shouldHonorJavaTypeEquals(dualValue) || shouldHonorOverriddenEquals(dualValue, recursiveComparisonConfiguration);
+    return shouldHonorJavaTypeEquals(dualValue) || shouldHonorOverriddenEquals(dualValue, comparisonState);
   }
 
   private static boolean shouldHonorJavaTypeEquals(DualValue dualValue) {
     return dualValue.hasSomeJavaTypeValue() && !dualValue.isExpectedAContainer();
   }
 
-  private static boolean shouldHonorOverriddenEquals(DualValue dualValue,
-                                                     RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    boolean shouldHonorOverriddenEqualsIfAny = !recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue);
+  private static boolean shouldHonorOverriddenEquals(DualValue dualValue, ComparisonState comparisonState) {
+    boolean shouldHonorOverriddenEqualsIfAny = !comparisonState.shouldIgnoreOverriddenEqualsOf(dualValue);
     return shouldHonorOverriddenEqualsIfAny && dualValue.actual != null && hasOverriddenEquals(dualValue.actual.getClass());
   }
 
@@ -558,61 +647,86 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, iterables are not equal as they don't have the same size
       return;
     }
-    List<Object> expectedElementsNotFound = list();
+    List<?> actualElements = newArrayList(actual);
+    boolean[] matchedActualElements = new boolean[actualElements.size()];
+    // speed up comparison by first looking for a match among the actual elements having the expected element hash code, note
+    // that the hash code might not be relevant if fields used to compute it are ignored in the recursive comparison, it's a
+    // good heuristic though to check the first actual elements that could match the expected one.
+    // The index is built once, matched actual elements are removed from it as they can't be used to match other expected
+    // elements.
+    Map<Integer, List<Integer>> actualElementIndexesByHashCode = actualElementIndexesGroupedByHashCode(actualElements);
+    List<Object> expectedElementsNotMatchedByHashCode = list();
     for (Object expectedElement : expected) {
-      boolean expectedElementMatched = false;
-      // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
-      // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
-      // the first actual elements that could match the expected one, worst case we compare all actual elements.
-      // actualElementsGroupedByHashCode must be initialized for each expectedElement, as we remove elements from its
-      // entries when a match with expectedElement is found, the next expectedElement comparison is done on a smaller
-      // set of entries which leads to incorrect results.
-      Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
-      Integer expectedHash = Objects.hashCode(expectedElement);
-      List<?> actualHashBucket = actualElementsGroupedByHashCode.get(expectedHash);
-      if (actualHashBucket != null) {
-        Iterator<?> actualIterator = actualHashBucket.iterator();
-        expectedElementMatched = searchExpectedElementIn(actualIterator, expectedElement, dualValue, comparisonState);
-      }
-      // It may be that expectedElement matches an actual element in a different hash bucket, to account for this, we check the
-      // other actual elements for matches. This may result in O(n^2) complexity in the worst case.
-      if (!expectedElementMatched) {
-        for (Entry<Integer, ? extends List<?>> actualElementsEntry : actualElementsGroupedByHashCode.entrySet()) {
-          // avoid checking the same bucket twice
-          if (actualElementsEntry.getKey().equals(expectedHash)) continue;
-          Iterator<?> actualElementsIterator = actualElementsEntry.getValue().iterator();
-          expectedElementMatched = searchExpectedElementIn(actualElementsIterator, expectedElement, dualValue, comparisonState);
-          if (expectedElementMatched) break;
-        }
-        if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
-      }
+      List<Integer> actualHashBucket = actualElementIndexesByHashCode.get(Objects.hashCode(expectedElement));
+      boolean expectedElementMatched = actualHashBucket != null
+                                       && searchExpectedElementIn(actualHashBucket.iterator(), actualElements,
+                                                                  matchedActualElements, expectedElement, dualValue,
+                                                                  comparisonState);
+      if (!expectedElementMatched) expectedElementsNotMatchedByHashCode.add(expectedElement);
+    }
+    if (expectedElementsNotMatchedByHashCode.isEmpty()) return;
+    // It may be that expected elements match actual elements with a different hash code, to account for this, we check the
+    // remaining expected elements against all the actual elements not matched yet. This may result in O(n^2) complexity in
+    // the worst case but only for the elements that were not matched by hash code.
+    List<Integer> actualElementIndexesNotMatched = indexesNotMatched(matchedActualElements);
+    List<Object> expectedElementsNotFound = list();
+    for (Object expectedElement : expectedElementsNotMatchedByHashCode) {
+      boolean expectedElementMatched = searchExpectedElementIn(actualElementIndexesNotMatched.iterator(), actualElements,
+                                                               matchedActualElements, expectedElement, dualValue,
+                                                               comparisonState);
+      if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
     }
     if (!expectedElementsNotFound.isEmpty()) {
-      String unmatched = format("The following expected elements were not matched in the actual %s:%n  %s",
+      List<Object> actualElementsNotFound = actualElementIndexesNotMatched.stream()
+                                                                          .map(actualElements::get)
+                                                                          .collect(toList());
+      String unmatched = format("The following expected elements were not matched in the actual %s:%n  %s%n"
+                                + "The following actual elements were not matched in the expected %s:%n  %s",
                                 actual.getClass().getSimpleName(),
-                                comparisonState.toStringOf(expectedElementsNotFound));
+                                comparisonState.toStringOf(expectedElementsNotFound),
+                                expected.getClass().getSimpleName(),
+                                comparisonState.toStringOf(actualElementsNotFound));
       comparisonState.addDifference(dualValue, unmatched);
-      // TODO could improve the error by listing the actual elements not in expected but that would need
-      // another double loop inverting actual and expected to find the actual elements not matched in expected
     }
   }
 
-  private static Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode(Iterable<?> actual) {
-    return stream(actual.spliterator(), false).collect(groupingBy(Objects::hashCode, toList()));
+  private static Map<Integer, List<Integer>> actualElementIndexesGroupedByHashCode(List<?> actualElements) {
+    Map<Integer, List<Integer>> actualElementIndexesByHashCode = new HashMap<>();
+    for (int i = 0; i < actualElements.size(); i++) {
+      actualElementIndexesByHashCode.computeIfAbsent(Objects.hashCode(actualElements.get(i)), hash -> new LinkedList<>())
+                                    .add(i);
+    }
+    return actualElementIndexesByHashCode;
+  }
+
+  private static List<Integer> indexesNotMatched(boolean[] matched) {
+    List<Integer> indexesNotMatched = new LinkedList<>();
+    for (int i = 0; i < matched.length; i++) {
+      if (!matched[i]) indexesNotMatched.add(i);
+    }
+    return indexesNotMatched;
   }
 
-  private static boolean searchExpectedElementIn(Iterator<?> actualIterator, Object expectedElement,
+  private static boolean searchExpectedElementIn(Iterator<Integer> actualElementIndexes, List<?> actualElements,
+                                                 boolean[] matchedActualElements, Object expectedElement,
                                                  DualValue dualValue, ComparisonState comparisonState) {
-    while (actualIterator.hasNext()) {
-      Object actualElement = actualIterator.next();
-      // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+    while (actualElementIndexes.hasNext()) {
+      int actualElementIndex = actualElementIndexes.next();
+      Object actualElement = actualElements.get(actualElementIndex);
+      // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion, the values
+      // visited while trying to match the elements are only kept if they match since the differences of a failed attempt
+      // are not tracked on all the visited values.
+      VisitedDualValues elementVisitedDualValues = comparisonState.visitedDualValues.tentativeVisitedDualValues();
       List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement,
                                                                     dualValue.fieldLocation,
-                                                                    comparisonState.visitedDualValues,
-                                                                    comparisonState.recursiveComparisonConfiguration);
+                                                                    elementVisitedDualValues,
+                                                                    comparisonState.recursiveComparisonConfiguration,
+                                                                    comparisonState.fieldLocationDecisions);
       if (differences.isEmpty()) {
         // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
-        actualIterator.remove();
+        actualElementIndexes.remove();
+        matchedActualElements[actualElementIndex] = true;
+        elementVisitedDualValues.commit();
         return true;
       }
     }
@@ -12,52 +12,122 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.System.identityHashCode;
+
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import static java.lang.String.format;
+import java.util.Set;
 
 class VisitedDualValues {
 
-  private final List<VisitedDualValue> dualValues;
+  // dual values are indexed by their actual/expected identities, agnostic of location, to take care of values visited
+  // several times and to keep lookups constant time whatever the size of the compared graphs.
+  // The dual values themselves are not kept to avoid retaining the field location of every visited node.
+  private final Map<DualValueIdentity, List<ComparisonDifference>> differencesByVisitedValues;
+  // set for tentative and independent visited dual values, see tentativeVisitedDualValues() and independentVisitedDualValues()
+  private final VisitedDualValues parent;
+  // identities of the dual values looked up or registered since independentVisitedDualValues() was called (including
+  // tentative ones), used to check that parts of the compared values compared in parallel did not visit the same values
+  private final Set<DualValueIdentity> footprint;
 
   VisitedDualValues() {
-    this.dualValues = new ArrayList<>();
+    this(null, null);
+  }
+
+  private VisitedDualValues(VisitedDualValues parent, Set<DualValueIdentity> footprint) {
+    this.differencesByVisitedValues = new HashMap<>();
+    this.parent = parent;
+    this.footprint = footprint;
+  }
+
+  /**
+   * Returns visited dual values seeing all the dual values visited so far but keeping the ones visited from now on apart
+   * until {@link #commit()} is called.
+   * <p>
+   * This is used when trying to match unordered elements, a failed attempt to match two elements only reports the
+   * differences on the visited dual values where they were found, their parents dual values are registered without
+   * differences, they must not be kept otherwise comparing them again would consider them equal.
+   */
+  VisitedDualValues tentativeVisitedDualValues() {
+    return new VisitedDualValues(this, footprint);
+  }
+
+  /**
+   * Returns visited dual values seeing all the dual values visited so far, meant to compare a part of the remaining values
+   * in parallel with other parts, these must not be modified until the comparison of the parts is done.
+   * <p>
+   * The parts must not visit the same dual values, otherwise the sequential comparison would have reported the dual values
+   * visited by several parts as already visited, this is checked with {@link #haveVisitedCommonDualValues(List)}.
+   */
+  VisitedDualValues independentVisitedDualValues() {
+    return new VisitedDualValues(this, new HashSet<>());
+  }
+
+  static boolean haveVisitedCommonDualValues(List<VisitedDualValues> independentVisitedDualValues) {
+    Set<DualValueIdentity> visitedDualValues = new HashSet<>();
+    for (VisitedDualValues independentVisitedDualValue : independentVisitedDualValues) {
+      for (DualValueIdentity dualValueIdentity : independentVisitedDualValue.footprint) {
+        if (!visitedDualValues.add(dualValueIdentity)) return true;
+      }
+    }
+    return false;
+  }
+
+  void commit() {
+    differencesByVisitedValues.forEach(parent.differencesByVisitedValues::putIfAbsent);
   }
 
   void registerVisitedDualValue(DualValue dualValue) {
-    this.dualValues.add(new VisitedDualValue(dualValue));
+    // keep the first registration, its differences are the ones reported when visiting the same values again
+    DualValueIdentity dualValueIdentity = new DualValueIdentity(dualValue);
+    this.differencesByVisitedValues.putIfAbsent(dualValueIdentity, new ArrayList<>());
+    if (footprint != null) footprint.add(dualValueIdentity);
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
-    this.dualValues.stream()
-                   // register difference on dual values agnostic of location, to take care of values visited several times
-                   .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                   .findFirst()
-                   .ifPresent(visitedDualValue -> visitedDualValue.comparisonDifferences.add(comparisonDifference));
+    // dual values visited before tentative ones are left untouched
+    List<ComparisonDifference> comparisonDifferences = this.differencesByVisitedValues.get(new DualValueIdentity(dualValue));
+    if (comparisonDifferences != null) comparisonDifferences.add(comparisonDifference);
   }
 
   Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValue dualValue) {
-    return this.dualValues.stream()
-                          // use sameValues to get already visited dual values with different location
-                          .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                          .findFirst()
-                          .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+    DualValueIdentity dualValueIdentity = new DualValueIdentity(dualValue);
+    // only potentially cycling values are registered, looking up other values can't be influenced by other parts
+    if (footprint != null && dualValue.hasPotentialCyclingValues()) footprint.add(dualValueIdentity);
+    return registeredComparisonDifferencesOf(dualValueIdentity);
   }
 
-  private static class VisitedDualValue {
-    DualValue dualValue;
-    List<ComparisonDifference> comparisonDifferences;
+  private Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValueIdentity dualValueIdentity) {
+    List<ComparisonDifference> comparisonDifferences = this.differencesByVisitedValues.get(dualValueIdentity);
+    if (comparisonDifferences != null) return Optional.of(comparisonDifferences);
+    return parent == null ? Optional.empty() : parent.registeredComparisonDifferencesOf(dualValueIdentity);
+  }
 
-    VisitedDualValue(DualValue dualValue) {
-      this.dualValue = dualValue;
-      this.comparisonDifferences = new ArrayList<>();
+  // equality is consistent with DualValue.sameValues which only relies on actual and expected identities
+  private static final class DualValueIdentity {
+    private final Object actual;
+    private final Object expected;
+
+    DualValueIdentity(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) return true;
+      if (!(other instanceof DualValueIdentity)) return false;
+      DualValueIdentity that = (DualValueIdentity) other;
+      return actual == that.actual && expected == that.expected;
     }
 
     @Override
-    public String toString() {
-      return format("VisitedDualValue[dualValue=%s, comparisonDifferences=%s]", this.dualValue, this.comparisonDifferences);
+    public int hashCode() {
+      return 31 * identityHashCode(actual) + identityHashCode(expected);
     }
   }
 }
@@ -12,11 +12,13 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
 
 import java.util.List;
 
 import org.assertj.core.description.Description;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.diff.Delta;
 
@@ -51,7 +53,9 @@ public class AbstractShouldHaveTextContent extends BasicErrorMessageFactory {
   }
 
   protected static String diffsAsString(List<Delta<String>> diffsList) {
-    return diffsList.stream().map(Delta::toString).collect(joining(System.lineSeparator()));
+    String diffs = diffsList.stream().map(Delta::toString).collect(joining(System.lineSeparator()));
+    if (!Diff.isCapped(diffsList)) return diffs;
+    return diffs + format("%n%n(only the first %s differences are shown, the contents have more differences)", diffsList.size());
   }
 
 }
\ No newline at end of file
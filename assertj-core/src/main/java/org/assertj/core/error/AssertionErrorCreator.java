@@ -50,8 +50,8 @@ public class AssertionErrorCreator {
   public AssertionError assertionError(String message, Object actual, Object expected, Representation representation) {
     // @format:off
     return assertionFailedError(message, actual,expected)
-                    .orElse(comparisonFailure(message, actual, expected, representation)
-                    .orElse(assertionError(message)));
+                    .orElseGet(() -> comparisonFailure(message, actual, expected, representation)
+                    .orElseGet(() -> assertionError(message)));
     // @format:on
   }
 
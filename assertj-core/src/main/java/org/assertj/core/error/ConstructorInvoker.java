@@ -12,19 +12,112 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.stream.Collectors.joining;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are looked up once and cached, as well as their absence, typically when opentest4j or JUnit 4 are not in
+ * the classpath. Classes are loaded by the class loader of this class, hence the cache is per class loader.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public class ConstructorInvoker {
 
+  private static final Map<ConstructorKey, CachedConstructor> CONSTRUCTORS = new ConcurrentHashMap<>();
+  private static final CachedConstructor MISSING_CLASS = new CachedConstructor(null);
+  private static final CachedConstructor MISSING_CONSTRUCTOR = new CachedConstructor(null);
+
   public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    return constructor.newInstance(parameterValues);
+    MethodHandle constructor = constructorFor(className, parameterTypes);
+    try {
+      return (Object) constructor.invokeExact(parameterValues);
+    } catch (Throwable constructorError) {
+      // wrapped as Constructor.newInstance does
+      throw new InvocationTargetException(constructorError);
+    }
+  }
+
+  private static MethodHandle constructorFor(String className, Class<?>[] parameterTypes) throws Exception {
+    ConstructorKey key = new ConstructorKey(className, parameterTypes);
+    CachedConstructor cachedConstructor = CONSTRUCTORS.get(key);
+    if (cachedConstructor == null) {
+      cachedConstructor = lookUpConstructor(className, parameterTypes);
+      CONSTRUCTORS.putIfAbsent(key, cachedConstructor);
+    }
+    // each caller gets its own exception as callers may add suppressed exceptions or a cause to it
+    if (cachedConstructor == MISSING_CLASS) throw new ClassNotFoundException(className);
+    if (cachedConstructor == MISSING_CONSTRUCTOR)
+      throw new NoSuchMethodException(constructorDescription(className, parameterTypes));
+    return cachedConstructor.constructor;
+  }
+
+  private static CachedConstructor lookUpConstructor(String className, Class<?>[] parameterTypes) throws IllegalAccessException {
+    // the class is not in the classpath or has no such public constructor, no need to look it up again
+    Class<?> targetType;
+    try {
+      targetType = Class.forName(className);
+    } catch (ClassNotFoundException e) {
+      return MISSING_CLASS;
+    }
+    Constructor<?> constructor;
+    try {
+      constructor = targetType.getConstructor(parameterTypes);
+    } catch (NoSuchMethodException e) {
+      return MISSING_CONSTRUCTOR;
+    }
+    MethodHandle constructorHandle = MethodHandles.lookup().unreflectConstructor(constructor)
+                                                  .asSpreader(Object[].class, parameterTypes.length)
+                                                  .asType(methodType(Object.class, Object[].class));
+    return new CachedConstructor(constructorHandle);
+  }
+
+  // described as in the NoSuchMethodException thrown by Class.getConstructor
+  private static String constructorDescription(String className, Class<?>[] parameterTypes) {
+    return Arrays.stream(parameterTypes)
+                 .map(parameterType -> parameterType == null ? "null" : parameterType.getName())
+                 .collect(joining(", ", className + ".<init>(", ")"));
+  }
+
+  private static final class CachedConstructor {
+    private final MethodHandle constructor;
+
+    private CachedConstructor(MethodHandle constructor) {
+      this.constructor = constructor;
+    }
+  }
+
+  private static final class ConstructorKey {
+    private final String className;
+    private final Class<?>[] parameterTypes;
+
+    private ConstructorKey(String className, Class<?>[] parameterTypes) {
+      this.className = className;
+      this.parameterTypes = parameterTypes.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      ConstructorKey constructorKey = (ConstructorKey) o;
+      return className.equals(constructorKey.className) && Arrays.equals(parameterTypes, constructorKey.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(className, Arrays.hashCode(parameterTypes));
+    }
   }
 }
@@ -56,17 +56,20 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
   }
 
   private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
-    super("%nFile:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+    super("%nFile:%n  %s%ndoes not have expected binary content at offset " + diff.offset
+          + ", expecting:%n  %s%nbut was:%n  %s",
+          actual, diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
-    super("%nPath:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+    super("%nPath:%n  %s%ndoes not have expected binary content at offset " + diff.offset
+          + ", expecting:%n  %s%nbut was:%n  %s",
+          actual, diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(InputStream actual, BinaryDiffResult diff) {
-    super("%nInputStream%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+    super("%nInputStream%n  %s%ndoes not have expected binary content at offset " + diff.offset
+          + ", expecting:%n  %s%nbut was:%n  %s",
+          actual, diff.expected, diff.actual);
   }
 }
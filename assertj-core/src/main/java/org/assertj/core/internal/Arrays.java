@@ -70,6 +70,7 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.PrimitiveArrays.canBeCheckedWithoutBoxing;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayEmpty;
@@ -199,6 +200,7 @@ public class Arrays {
   @VisibleForTesting
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (canBeCheckedWithoutBoxing(comparisonStrategy, actual, values) && PrimitiveArrays.containsAll(actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
     for (int i = 0; i < valueCount; i++) {
@@ -246,6 +248,7 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (canBeCheckedWithoutBoxing(comparisonStrategy, actual, values) && PrimitiveArrays.containsOnly(actual, values)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -279,6 +282,8 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    // primitive arrays of the same type are compared without boxing their elements
+    if (canBeCheckedWithoutBoxing(comparisonStrategy, actual, values) && areEqual(actual, values)) return;
 
     List<Object> actualAsList = asList(actual);
     IterableDiff<?> diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -300,8 +305,17 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (canBeCheckedWithoutBoxing(comparisonStrategy, actual, values)
+        && PrimitiveArrays.containsExactlyInAnyOrder(actual, values)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
+    if (StandardComparisonStrategy.canBeHashed(comparisonStrategy, notExpected)
+        && StandardComparisonStrategy.canBeHashed(comparisonStrategy, notFound)) {
+      IterableDiff<Object> diff = diff(notExpected, notFound, comparisonStrategy);
+      if (!diff.differencesFound()) return;
+      throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected,
+                                                                  comparisonStrategy));
+    }
 
     for (Object value : asList(values)) {
       if (iterableContains(notExpected, value)) {
@@ -347,41 +361,40 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
-    }
-    throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
+    if (indexOfSequence(actual, sequence) < 0)
+      throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
-
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) {
-        throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
-      }
-    }
+    int sequenceIndex = indexOfSequence(actual, sequence);
+    if (sequenceIndex >= 0)
+      throw failures.failure(info, shouldNotContainSequence(actual, sequence, sequenceIndex, comparisonStrategy));
   }
 
   /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
+   * Returns the index of the first occurrence of the given non empty sequence in actual, or -1 if there is none.
+   * <p>
+   * Primitive arrays compared with the standard comparison strategy are searched with a rolling hash, other arrays with
+   * {@link SequenceMatcher}, both take O(N + k) comparisons to look for k values in N elements as long as equality is
+   * transitive. Comparators (e.g. with a precision) are not guaranteed to be, their elements are then compared to each
+   * window of k elements, which takes O(N * k) comparisons.
    *
-   * @param actualStartIndex the index to start looking for sequence in actualArray
-   * @param actualArray the actual array to search sequence in
+   * @param actual the actual array to search sequence in
    * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
+   * @return the index of the first occurrence of the given sequence in actual, or -1 if there is none.
    */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
+  private int indexOfSequence(Object actual, Object sequence) {
+    if (canBeCheckedWithoutBoxing(comparisonStrategy, actual, sequence)) return PrimitiveArrays.indexOfSequence(actual, sequence);
     int sequenceSize = sizeOf(sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex))) continue;
-      return false;
+    int actualSize = sizeOf(actual);
+    if (actualSize < sequenceSize) return -1;
+    Object[] sequenceValues = sequence instanceof Object[] ? (Object[]) sequence : asList(sequence).toArray();
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(comparisonStrategy, sequenceValues);
+    for (int actualIndex = 0; actualIndex < actualSize; actualIndex++) {
+      if (sequenceMatcher.completesSequence(Array.get(actual, actualIndex))) return actualIndex - sequenceSize + 1;
     }
-    return true;
+    return -1;
   }
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
@@ -475,6 +488,7 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (canBeCheckedWithoutBoxing(comparisonStrategy, array) && !PrimitiveArrays.hasDuplicates(array)) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -487,6 +501,10 @@ public class Arrays {
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
+    if (canBeCheckedWithoutBoxing(comparisonStrategy, actual, sequence)) {
+      if (PrimitiveArrays.containsSequenceAt(actual, 0, sequence)) return;
+      throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
+    }
     for (int i = 0; i < sequenceSize; i++) {
       if (!areEqual(Array.get(sequence, i), Array.get(actual, i)))
         throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
@@ -522,6 +540,10 @@ public class Arrays {
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
+    if (canBeCheckedWithoutBoxing(comparisonStrategy, actual, sequence)) {
+      if (PrimitiveArrays.containsSequenceAt(actual, arraySize - sequenceSize, sequence)) return;
+      throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
+    }
     for (int i = 0; i < sequenceSize; i++) {
       int sequenceIndex = sequenceSize - (i + 1);
       int arrayIndex = arraySize - (i + 1);
@@ -678,6 +700,11 @@ public class Arrays {
     }
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
+    if (canBeCheckedWithoutBoxing(comparisonStrategy, array)) {
+      int unsortedElementIndex = PrimitiveArrays.indexOfFirstUnsortedElement(array);
+      if (unsortedElementIndex >= 0) throw failures.failure(info, shouldBeSorted(unsortedElementIndex, array));
+      return;
+    }
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
@@ -12,11 +12,11 @@
  */
 package org.assertj.core.internal;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -24,38 +24,99 @@ import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * The contents are read and compared block by block, only two blocks are kept in memory whatever the size of the compared
+ * contents.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int BLOCK_SIZE = 8192;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream actualStream = new BufferedInputStream(Files.newInputStream(actual))) {
+    try (InputStream actualStream = Files.newInputStream(actual)) {
       return diff(actualStream, expected);
     }
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    if (Files.isSameFile(actual, expected)) return BinaryDiffResult.noDiff();
+    try (InputStream actualStream = Files.newInputStream(actual);
+        InputStream expectedStream = Files.newInputStream(expected)) {
+      return diff(actualStream, expectedStream, blockSize(Math.max(Files.size(actual), Files.size(expected))));
+    }
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
-    return diff(actualStream, new ByteArrayInputStream(expected));
+    return diff(actualStream, new ByteArrayInputStream(expected), blockSize(expected.length));
   }
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    return diff(actualStream, expectedStream, BLOCK_SIZE);
+  }
+
+  // small contents are compared in a single block just large enough to reach their end
+  private static int blockSize(long contentSize) {
+    return (int) Math.min(contentSize + 1, BLOCK_SIZE);
+  }
+
+  private static BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream,
+                                       int blockSize) throws IOException {
+    byte[] actualBlock = new byte[blockSize];
+    byte[] expectedBlock = new byte[blockSize];
+    long blockOffset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = readBlock(actualStream, actualBlock);
+      int expectedLength = readBlock(expectedStream, expectedBlock);
+      int commonLength = Math.min(actualLength, expectedLength);
+      int index = mismatch(actualBlock, expectedBlock, commonLength);
+      if (index != -1) return new BinaryDiffResult(blockOffset + index, expectedBlock[index] & 0xFF, actualBlock[index] & 0xFF);
+      if (actualLength != expectedLength) {
+        // the shortest content has reached its end
+        int expected = expectedLength > commonLength ? expectedBlock[commonLength] & 0xFF : -1;
+        int actual = actualLength > commonLength ? actualBlock[commonLength] & 0xFF : -1;
+        return new BinaryDiffResult(blockOffset + commonLength, expected, actual);
+      }
+      // a block is only partially filled at the end of the content
+      if (actualLength < blockSize) return BinaryDiffResult.noDiff();
+      blockOffset += blockSize;
+    }
+  }
+
+  // fills the given block unless the end of the stream is reached first, returns the number of bytes read
+  private static int readBlock(InputStream stream, byte[] block) throws IOException {
+    int length = 0;
+    while (length < block.length) {
+      int read = stream.read(block, length, block.length - length);
+      if (read == -1) break;
+      length += read;
+    }
+    return length;
+  }
+
+  // the index of the first different byte in the given length of both blocks, -1 if there are none
+  private static int mismatch(byte[] actualBlock, byte[] expectedBlock, int length) {
+    // ByteBuffer.equals is vectorized on recent JVMs, the bytes are compared one by one only to locate a difference
+    if (ByteBuffer.wrap(actualBlock, 0, length).equals(ByteBuffer.wrap(expectedBlock, 0, length))) return -1;
+    for (int i = 0; i < length; i++) {
+      if (actualBlock[i] != expectedBlock[i]) return i;
     }
+    return -1;
   }
 }
@@ -0,0 +1,224 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Character.isSurrogate;
+import static java.lang.Character.isWhitespace;
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+
+/**
+ * Comparisons of {@link CharSequence}s reading their chars in place, giving the same results as comparing copies of
+ * them (lower-cased or without whitespaces for example) without building these copies, which matters for large
+ * sequences like {@code StringBuilder}s capturing logs.
+ */
+final class CharSequences {
+
+  private static final int NOT_FOUND = -1;
+  private static final char LATIN_CAPITAL_LETTER_I_WITH_DOT_ABOVE = '\u0130';
+  private static final char GREEK_CAPITAL_LETTER_SIGMA = '\u03A3';
+
+  /**
+   * Returns true if lower-casing the given sequence with {@link String#toLowerCase(java.util.Locale)} and the root locale
+   * gives the same result as lower-casing each of its chars with {@link Character#toLowerCase(char)}.
+   * <p>
+   * This is not the case for supplementary characters (lower-cased as code points), for the capital letter I with dot
+   * above (lower-cased to two chars) and for the capital letter sigma (lower-cased according to its position in words).
+   *
+   * @param sequence the sequence to check
+   * @return true if the given sequence can be compared ignoring case char by char
+   */
+  static boolean canBeLowerCasedCharByChar(CharSequence sequence) {
+    for (int i = 0; i < sequence.length(); i++) {
+      char c = sequence.charAt(i);
+      if (isSurrogate(c) || c == LATIN_CAPITAL_LETTER_I_WITH_DOT_ABOVE || c == GREEK_CAPITAL_LETTER_SIGMA) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in the given text, or -1 if there are none.
+   *
+   * @param text the text to search the sequence in
+   * @param sequence the sequence to look for
+   * @return the index of the first occurrence of the given sequence in the given text, or -1 if there are none.
+   */
+  static int indexOf(CharSequence text, CharSequence sequence) {
+    int lastStart = text.length() - sequence.length();
+    for (int start = 0; start <= lastStart; start++) {
+      if (regionMatches(text, start, sequence, false)) return start;
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Same as {@link #indexOf(CharSequence, CharSequence)} comparing the chars lower-cased, both text and sequence must be
+   * {@link #canBeLowerCasedCharByChar(CharSequence) lower-cased char by char}.
+   *
+   * @param text the text to search the sequence in
+   * @param sequence the sequence to look for
+   * @return the index of the first occurrence of the given sequence in the given text ignoring case, or -1 if there are none.
+   */
+  static int indexOfIgnoringCase(CharSequence text, CharSequence sequence) {
+    int lastStart = text.length() - sequence.length();
+    for (int start = 0; start <= lastStart; start++) {
+      if (regionMatches(text, start, sequence, true)) return start;
+    }
+    return NOT_FOUND;
+  }
+
+  static boolean startsWithIgnoringCase(CharSequence text, CharSequence prefix) {
+    return prefix.length() <= text.length() && regionMatches(text, 0, prefix, true);
+  }
+
+  static boolean endsWithIgnoringCase(CharSequence text, CharSequence suffix) {
+    int suffixStart = text.length() - suffix.length();
+    return suffixStart >= 0 && regionMatches(text, suffixStart, suffix, true);
+  }
+
+  // text must have enough chars after start
+  private static boolean regionMatches(CharSequence text, int start, CharSequence sequence, boolean ignoreCase) {
+    for (int i = 0; i < sequence.length(); i++) {
+      char textChar = text.charAt(start + i);
+      char sequenceChar = sequence.charAt(i);
+      if (textChar != sequenceChar && (!ignoreCase || toLowerCase(textChar) != toLowerCase(sequenceChar))) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the same result as {@link String#equalsIgnoreCase(String)}, both sequences must be
+   * {@link #canBeLowerCasedCharByChar(CharSequence) lower-cased char by char}.
+   *
+   * @param actual the first sequence to compare
+   * @param expected the second sequence to compare
+   * @return true if the given sequences are equal ignoring case
+   */
+  static boolean equalsIgnoringCase(CharSequence actual, CharSequence expected) {
+    if (actual.length() != expected.length()) return false;
+    for (int i = 0; i < actual.length(); i++) {
+      char actualChar = actual.charAt(i);
+      char expectedChar = expected.charAt(i);
+      if (actualChar == expectedChar) continue;
+      // same rule as String.equalsIgnoreCase, some alphabets have chars with the same upper case but different lower cases
+      char actualUpperCase = toUpperCase(actualChar);
+      char expectedUpperCase = toUpperCase(expectedChar);
+      if (actualUpperCase != expectedUpperCase && toLowerCase(actualUpperCase) != toLowerCase(expectedUpperCase)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the given sequences are equal once their whitespaces are removed.
+   *
+   * @param actual the first sequence to compare
+   * @param expected the second sequence to compare
+   * @return true if the given sequences are equal ignoring whitespaces
+   */
+  static boolean equalsIgnoringWhitespace(CharSequence actual, CharSequence expected) {
+    int actualIndex = 0;
+    int expectedIndex = 0;
+    while (true) {
+      while (actualIndex < actual.length() && isWhitespace(actual.charAt(actualIndex))) actualIndex++;
+      while (expectedIndex < expected.length() && isWhitespace(expected.charAt(expectedIndex))) expectedIndex++;
+      boolean actualEnded = actualIndex == actual.length();
+      boolean expectedEnded = expectedIndex == expected.length();
+      if (actualEnded || expectedEnded) return actualEnded && expectedEnded;
+      if (actual.charAt(actualIndex++) != expected.charAt(expectedIndex++)) return false;
+    }
+  }
+
+  /**
+   * Returns true if the given sequences are equal once normalized, that is once their punctuation is removed (if asked),
+   * their whitespaces and non-breaking spaces runs are replaced by a single space and the result is trimmed.
+   *
+   * @param actual the first sequence to compare
+   * @param expected the second sequence to compare
+   * @param ignorePunctuation whether to remove the ASCII punctuation (the {@code \p{Punct}} regex class) before normalizing
+   *          whitespaces
+   * @return true if the given sequences are equal once normalized
+   */
+  static boolean equalsNormalizingWhitespace(CharSequence actual, CharSequence expected, boolean ignorePunctuation) {
+    NormalizedChars normalizedActual = new NormalizedChars(actual, ignorePunctuation);
+    NormalizedChars normalizedExpected = new NormalizedChars(expected, ignorePunctuation);
+    while (true) {
+      int actualChar = normalizedActual.next();
+      if (actualChar != normalizedExpected.next()) return false;
+      if (actualChar == NOT_FOUND) return true;
+    }
+  }
+
+  static boolean isNonBreakingSpace(char c) {
+    return c == '\u00A0' || c == '\u2007' || c == '\u202F';
+  }
+
+  // ASCII punctuation as matched by the \p{Punct} regex class: !"#$%&'()*+,-./:;<=>?@[\]^_`{|}~
+  static boolean isPunctuation(char c) {
+    return (c >= '!' && c <= '/') || (c >= ':' && c <= '@') || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+  }
+
+  /**
+   * Reads the chars of a sequence normalized as in {@code Strings}: punctuation removed (if asked), whitespaces runs
+   * replaced by a single space and the result trimmed.
+   * <p>
+   * Trimming the normalized sequence removes its leading and trailing chars lower than or equal to a space, these come
+   * from the leading and trailing blank chars of the sequence (whitespaces, non-breaking spaces or control chars), once
+   * these are skipped the normalized chars are read from the remaining region.
+   */
+  private static final class NormalizedChars {
+
+    private final CharSequence sequence;
+    private final boolean ignorePunctuation;
+    private final int end;
+    private int index;
+
+    private NormalizedChars(CharSequence sequence, boolean ignorePunctuation) {
+      this.sequence = sequence;
+      this.ignorePunctuation = ignorePunctuation;
+      int start = 0;
+      int end = sequence.length();
+      while (start < end && isBlankOrIgnored(sequence.charAt(start))) start++;
+      while (end > start && isBlankOrIgnored(sequence.charAt(end - 1))) end--;
+      this.index = start;
+      this.end = end;
+    }
+
+    // the next normalized char or -1 if there are none
+    private int next() {
+      boolean spaceFound = false;
+      while (index < end) {
+        char c = sequence.charAt(index);
+        if (ignorePunctuation && isPunctuation(c)) {
+          index++;
+        } else if (isWhitespace(c) || isNonBreakingSpace(c)) {
+          spaceFound = true;
+          index++;
+        } else if (spaceFound) {
+          // the region ends with a non blank char, a whitespace run is always followed by a char to read
+          return ' ';
+        } else {
+          index++;
+          return c;
+        }
+      }
+      return NOT_FOUND;
+    }
+
+    private boolean isBlankOrIgnored(char c) {
+      return c <= ' ' || isWhitespace(c) || isNonBreakingSpace(c) || (ignorePunctuation && isPunctuation(c));
+    }
+  }
+
+  private CharSequences() {}
+
+}
@@ -13,6 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
@@ -21,16 +22,24 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 
 /**
  * Compares the contents of two files, inputStreams or paths.
@@ -46,6 +55,9 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  // beyond that, differences are too many to be read in an error message
+  private static final int MAX_DELTAS = 1000;
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -86,16 +98,53 @@ public class Diff {
 
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
+      // contents are most of the time equal, they are split in lines to be diffed only from their first different line
+      CommonLines commonLines = new CommonLines(actual, expected);
+      if (commonLines.contentsAreEqual) return emptyList();
+      List<String> actualLines = linesFromBufferedReader(commonLines.remainingActualLines());
+      List<String> expectedLines = linesFromBufferedReader(commonLines.remainingExpectedLines());
 
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      // one more delta is looked for to know whether the contents have more differences than the reported ones
+      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines, new LinearSpaceMyersDiff<>(MAX_DELTAS + 1));
+      List<Delta<String>> deltas = shift(patch.getDeltas(), commonLines.count);
+      if (deltas.size() > MAX_DELTAS) return new CappedDeltas(deltas.subList(0, MAX_DELTAS));
+      return unmodifiableList(deltas);
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
+  /**
+   * Returns whether the given deltas are the first ones of contents having more differences, the remaining ones being too
+   * many to be reported.
+   *
+   * @param deltas deltas returned by this class.
+   * @return true if the contents have more differences than the given deltas.
+   */
+  public static boolean isCapped(List<Delta<String>> deltas) {
+    return deltas instanceof CappedDeltas;
+  }
+
+  private static List<Delta<String>> shift(List<Delta<String>> deltas, int lines) {
+    if (lines == 0) return deltas;
+    List<Delta<String>> shiftedDeltas = new ArrayList<>(deltas.size());
+    for (Delta<String> delta : deltas) {
+      Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + lines, delta.getOriginal().getLines());
+      Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + lines, delta.getRevised().getLines());
+      switch (delta.getType()) {
+      case INSERT:
+        shiftedDeltas.add(new InsertDelta<>(original, revised));
+        break;
+      case DELETE:
+        shiftedDeltas.add(new DeleteDelta<>(original, revised));
+        break;
+      default:
+        shiftedDeltas.add(new ChangeDelta<>(original, revised));
+      }
+    }
+    return shiftedDeltas;
+  }
+
   private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
     String line;
     List<String> lines = new ArrayList<>();
@@ -104,4 +153,112 @@ public class Diff {
     }
     return lines;
   }
+
+  private static final class CappedDeltas extends AbstractList<Delta<String>> {
+
+    private final List<Delta<String>> deltas;
+
+    private CappedDeltas(List<Delta<String>> deltas) {
+      this.deltas = deltas;
+    }
+
+    @Override
+    public Delta<String> get(int index) {
+      return deltas.get(index);
+    }
+
+    @Override
+    public int size() {
+      return deltas.size();
+    }
+
+  }
+
+  /**
+   * The lines two contents have in common before their first difference.
+   * <p>
+   * The contents are read and compared block by block, without splitting them in lines, the compared readers are left at
+   * the end of the last read blocks which are kept to read the contents from the start of their first different line.
+   */
+  private static class CommonLines {
+
+    private static final int BLOCK_SIZE = 8192;
+
+    private final Reader actual;
+    private final Reader expected;
+    private final char[] actualBlock = new char[BLOCK_SIZE];
+    private final char[] expectedBlock = new char[BLOCK_SIZE];
+    private int actualLength;
+    private int expectedLength;
+    // the start of the current line in the blocks, its first characters when it started in previous blocks
+    private int lineStart;
+    private final StringBuilder lineBeginning = new StringBuilder();
+    private int count;
+    private boolean contentsAreEqual;
+
+    private CommonLines(Reader actual, Reader expected) throws IOException {
+      this.actual = actual;
+      this.expected = expected;
+      // a line ends with '\n', '\r' or "\r\n" like in BufferedReader.readLine, a '\r' ends a line once we know that
+      // the next character is not '\n'
+      boolean carriageReturn = false;
+      while (true) {
+        actualLength = readBlock(actual, actualBlock);
+        expectedLength = readBlock(expected, expectedBlock);
+        int commonLength = Math.min(actualLength, expectedLength);
+        for (int i = 0; i < commonLength; i++) {
+          char c = actualBlock[i];
+          if (c != expectedBlock[i]) return;
+          if (c == '\n') {
+            lineEnd(i + 1);
+          } else if (carriageReturn) {
+            lineEnd(i);
+          }
+          carriageReturn = c == '\r';
+        }
+        if (actualLength != expectedLength) return;
+        if (actualLength < BLOCK_SIZE) {
+          contentsAreEqual = true;
+          return;
+        }
+        lineBeginning.append(actualBlock, lineStart, actualLength - lineStart);
+        lineStart = 0;
+      }
+    }
+
+    private void lineEnd(int nextLineStart) {
+      count++;
+      lineStart = nextLineStart;
+      lineBeginning.setLength(0);
+    }
+
+    BufferedReader remainingActualLines() throws IOException {
+      return remainingLines(actual, actualBlock, actualLength);
+    }
+
+    BufferedReader remainingExpectedLines() throws IOException {
+      return remainingLines(expected, expectedBlock, expectedLength);
+    }
+
+    private BufferedReader remainingLines(Reader reader, char[] block, int length) throws IOException {
+      // the characters read from the start of the first different line are put back in front of the ones left to read
+      char[] readCharacters = new char[lineBeginning.length() + length - lineStart];
+      lineBeginning.getChars(0, lineBeginning.length(), readCharacters, 0);
+      System.arraycopy(block, lineStart, readCharacters, lineBeginning.length(), length - lineStart);
+      PushbackReader remainingCharacters = new PushbackReader(reader, Math.max(readCharacters.length, 1));
+      remainingCharacters.unread(readCharacters);
+      return new BufferedReader(remainingCharacters);
+    }
+
+    // fills the given block unless the end of the reader is reached first, returns the number of characters read
+    private static int readBlock(Reader reader, char[] block) throws IOException {
+      int length = 0;
+      while (length < block.length) {
+        int read = reader.read(block, length, block.length - length);
+        if (read == -1) break;
+        length += read;
+      }
+      return length;
+    }
+  }
 }
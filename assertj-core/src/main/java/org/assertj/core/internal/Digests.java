@@ -18,7 +18,17 @@ import static org.assertj.core.util.Hexadecimals.byteToHexString;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Reusable utils for digest processing
@@ -28,6 +38,15 @@ import java.security.MessageDigest;
 public final class Digests {
 
   private static final int BUFFER_SIZE = 1024 * 8;
+  private static final int CHANNEL_BUFFER_SIZE = 1024 * 64;
+  private static final int MAX_CACHED_FILE_DIGESTS = 256;
+  // file systems time precision can be as coarse as 2 seconds (FAT)
+  private static final long FILE_TIME_PRECISION_MILLIS = 2000;
+  private static final String FILE_DIGEST_ATTRIBUTES = "unix:size,lastModifiedTime,fileKey,ctime";
+
+  // the direct buffer of the last channel digest, reused by the next one unless another thread took it
+  private static final AtomicReference<ByteBuffer> CHANNEL_BUFFER = new AtomicReference<>();
+  private static final Map<FileDigestKey, byte[]> FILE_DIGESTS = Collections.synchronizedMap(new LeastRecentlyUsedDigests());
 
   private Digests() {}
 
@@ -64,4 +83,119 @@ public final class Digests {
     String actualHex = toHex(actualDigest);
     return new DigestDiff(actualHex, expectedHex, messageDigest);
   }
+
+  /**
+   * Computes the digest of the given file read from the given channel, unless the digest of the file with the same
+   * algorithm was already computed and the file size, last modified time and last change time have not changed since.
+   * <p>
+   * Unlike the last modified time, the last change time can't be set back to a previous value, digests are thus only
+   * cached when it is available (on unix-like file systems). They are also only cached for files changed before the
+   * time precision of file systems, a file changed just after its digest was computed could otherwise keep the same
+   * last change time.
+   *
+   * @param file the file to compute the digest of
+   * @param channel the channel to read the file from
+   * @param messageDigest the digest algorithm
+   * @param expected the expected digest
+   * @return the comparison of the file digest with the expected one
+   * @throws IOException if the file could not be read
+   */
+  static DigestDiff digestDiff(Path file, ReadableByteChannel channel, MessageDigest messageDigest,
+                               byte[] expected) throws IOException {
+    requireNonNull(messageDigest, "The digest should not be null");
+    requireNonNull(expected, "The expected should not be null");
+    long now = System.currentTimeMillis();
+    FileDigestKey key = FileDigestKey.of(file, messageDigest);
+    byte[] actualDigest = key == null ? null : FILE_DIGESTS.get(key);
+    if (actualDigest == null) {
+      actualDigest = digest(channel, messageDigest);
+      if (key != null && key.lastChangeTime.toMillis() < now - FILE_TIME_PRECISION_MILLIS
+          && key.equals(FileDigestKey.of(file, messageDigest))) {
+        FILE_DIGESTS.put(key, actualDigest);
+      }
+    }
+    return new DigestDiff(toHex(actualDigest), toHex(expected), messageDigest);
+  }
+
+  private static byte[] digest(ReadableByteChannel channel, MessageDigest messageDigest) throws IOException {
+    ByteBuffer buffer = CHANNEL_BUFFER.getAndSet(null);
+    if (buffer == null) buffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE);
+    try {
+      messageDigest.reset();
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        messageDigest.update(buffer);
+        buffer.clear();
+      }
+      return messageDigest.digest();
+    } finally {
+      buffer.clear();
+      CHANNEL_BUFFER.set(buffer);
+    }
+  }
+
+  private static final class LeastRecentlyUsedDigests extends LinkedHashMap<FileDigestKey, byte[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private LeastRecentlyUsedDigests() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<FileDigestKey, byte[]> eldest) {
+      return size() > MAX_CACHED_FILE_DIGESTS;
+    }
+  }
+
+  private static final class FileDigestKey {
+
+    private final Path file;
+    private final Object fileKey;
+    private final long size;
+    private final FileTime lastModifiedTime;
+    private final FileTime lastChangeTime;
+    private final String algorithm;
+    private final String provider;
+
+    private FileDigestKey(Path file, Map<String, Object> attributes, MessageDigest messageDigest) {
+      this.file = file.toAbsolutePath().normalize();
+      this.fileKey = attributes.get("fileKey");
+      this.size = (long) attributes.get("size");
+      this.lastModifiedTime = (FileTime) attributes.get("lastModifiedTime");
+      this.lastChangeTime = (FileTime) attributes.get("ctime");
+      this.algorithm = messageDigest.getAlgorithm();
+      this.provider = messageDigest.getProvider() == null ? null : messageDigest.getProvider().getName();
+    }
+
+    // null when the file system does not provide the last change time
+    private static FileDigestKey of(Path file, MessageDigest messageDigest) throws IOException {
+      Map<String, Object> attributes;
+      try {
+        attributes = Files.readAttributes(file, FILE_DIGEST_ATTRIBUTES);
+      } catch (UnsupportedOperationException | IllegalArgumentException e) {
+        return null;
+      }
+      return new FileDigestKey(file, attributes, messageDigest);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof FileDigestKey)) return false;
+      FileDigestKey other = (FileDigestKey) obj;
+      return size == other.size
+             && file.equals(other.file)
+             && Objects.equals(fileKey, other.fileKey)
+             && lastModifiedTime.equals(other.lastModifiedTime)
+             && lastChangeTime.equals(other.lastChangeTime)
+             && algorithm.equals(other.algorithm)
+             && Objects.equals(provider, other.provider);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(file, fileKey, size, lastModifiedTime, lastChangeTime, algorithm, provider);
+    }
+  }
 }
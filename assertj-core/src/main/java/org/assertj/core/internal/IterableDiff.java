@@ -12,11 +12,15 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 // immutable
 /**
@@ -31,6 +35,20 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
+    if (StandardComparisonStrategy.canBeHashed(comparisonStrategy, actual)
+        && StandardComparisonStrategy.canBeHashed(comparisonStrategy, expected)) {
+      // counting the expected elements and looking up the actual ones gives the same result as comparing each of them in
+      // O(N + M) operations, the lookups compare actual elements to expected ones as equals might not be symmetric
+      Map<T, Integer> expectedCounts = countElements(expected);
+      this.unexpected = elementsNotCounted(actual, expectedCounts);
+      this.missing = elementsLeftInCounts(expected, expectedCounts);
+      return;
+    }
+    if (haveSameElementsAccordingToSortedElements(actual, expected)) {
+      this.unexpected = emptyList();
+      this.missing = emptyList();
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = unexpectedActualElements(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
@@ -45,6 +63,70 @@ class IterableDiff<T> {
     return diff(actual, expected, StandardComparisonStrategy.instance());
   }
 
+  /**
+   * Returns the given elements that are not counted in the given counts, each element decrements its count so that the
+   * elements occurring more than counted are returned, the elements are returned in their original order.
+   *
+   * @param elements the elements to look up in the counts
+   * @param counts the counted elements, modified by this method
+   * @return the given elements that are not counted in the given counts
+   */
+  private static <T> List<T> elementsNotCounted(Iterable<T> elements, Map<T, Integer> counts) {
+    List<T> notCounted = new ArrayList<>();
+    for (T element : elements) {
+      Integer count = counts.get(element);
+      if (count == null) notCounted.add(element);
+      else if (count == 1) counts.remove(element);
+      else counts.put(element, count - 1);
+    }
+    return unmodifiableList(notCounted);
+  }
+
+  /**
+   * Returns the given elements that are left in the given counts, an element being matched to its first occurrences, the
+   * ones left are its last occurrences. The elements are returned in their original order.
+   *
+   * @param elements the counted elements
+   * @param counts the counts left, modified by this method
+   * @return the given elements that are left in the given counts
+   */
+  private static <T> List<T> elementsLeftInCounts(Iterable<T> elements, Map<T, Integer> counts) {
+    List<T> reversedElements = newArrayList(elements);
+    Collections.reverse(reversedElements);
+    List<T> left = new ArrayList<>();
+    for (T element : reversedElements) {
+      Integer count = counts.get(element);
+      if (count == null) continue;
+      left.add(element);
+      if (count == 1) counts.remove(element);
+      else counts.put(element, count - 1);
+    }
+    Collections.reverse(left);
+    return unmodifiableList(left);
+  }
+
+  private static <T> Map<T, Integer> countElements(Iterable<T> elements) {
+    Map<T, Integer> counts = new HashMap<>();
+    elements.forEach(element -> counts.merge(element, 1, Integer::sum));
+    return counts;
+  }
+
+  // matches each expected element to an actual element equal to it that has not already been matched, a comparator might not
+  // impose a total ordering (e.g. field by field comparators) and miss equal elements, so this is only trusted when all
+  // elements are matched, comparing each element reports the differences (or finds none after all).
+  private boolean haveSameElementsAccordingToSortedElements(Iterable<T> actual, Iterable<T> expected) {
+    List<T> expectedElements = newArrayList(expected);
+    if (!SortedElements.canSort(comparisonStrategy, actual, expectedElements.toArray())) return false;
+    try {
+      SortedElements sortedActual = SortedElements.sort(comparisonStrategy, actual);
+      // removeFirst compares actual elements to expected ones, as isActualElementInExpected does
+      return sortedActual.size() == expectedElements.size() && expectedElements.stream().allMatch(sortedActual::removeFirst);
+    } catch (RuntimeException e) {
+      // the comparator might not support comparing elements of different types
+      return false;
+    }
+  }
+
   boolean differencesFound() {
     return !unexpected.isEmpty() || !missing.isEmpty();
   }
@@ -83,6 +83,7 @@ import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.IterableUtil.sizeOf;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.assertj.core.util.Streams.stream;
 
 import java.util.ArrayDeque;
@@ -91,9 +92,9 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -356,13 +357,28 @@ public class Iterables {
 
   private void assertIterableContainsGivenValues(@SuppressWarnings("rawtypes") Class<? extends Iterable> clazz,
                                                  Iterable<?> actual, Object[] values, AssertionInfo info) {
-    Set<Object> notFound = stream(values).filter(value -> !iterableContains(actual, value))
-                                         .collect(toCollection(LinkedHashSet::new));
+    Set<Object> notFound = canBeHashed(actual, values)
+        ? valuesNotFoundByHashCode(actual, values)
+        : stream(values).filter(value -> !iterableContains(actual, value)).collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty())
       return;
     throw failures.failure(info, shouldContain(clazz, actual, values, notFound, comparisonStrategy));
   }
 
+  // single pass over actual instead of one per value
+  private static Set<Object> valuesNotFoundByHashCode(Iterable<?> actual, Object[] values) {
+    Set<Object> notFound = newLinkedHashSet(values);
+    for (Object element : actual) {
+      if (notFound.remove(element) && notFound.isEmpty()) break;
+    }
+    return notFound;
+  }
+
+  private boolean canBeHashed(Iterable<?> actual, Object[] values) {
+    return StandardComparisonStrategy.canBeHashed(comparisonStrategy, actual)
+           && StandardComparisonStrategy.canBeHashed(comparisonStrategy, values);
+  }
+
   private boolean iterableContains(Iterable<?> actual, Object value) {
     return comparisonStrategy.iterableContains(actual, value);
   }
@@ -395,17 +411,33 @@ public class Iterables {
     // if both actual and values are empty, then assertion passes.
     if (actualAsList.isEmpty() && expectedValues.length == 0) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actualAsList);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actualAsList, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
+    if (containsOnlyAccordingToSortedElements(actualAsList, expectedValues)) return;
+
+    List<Object> unexpectedValues;
+    List<Object> missingValues;
+    if (canBeHashed(actualAsList, expectedValues)) {
+      // single pass over actual, looking up its elements in the expected values instead of the other way around
+      Set<Object> expected = newLinkedHashSet(expectedValues);
+      Set<Object> notFound = new HashSet<>(expected);
+      unexpectedValues = new ArrayList<>();
+      for (Object element : actualAsList) {
+        if (expected.contains(element)) notFound.remove(element);
+        else unexpectedValues.add(element);
+      }
+      missingValues = stream(expectedValues).filter(notFound::contains).collect(toList());
+    } else {
+      // after the for loop, unexpected = expectedValues - actual
+      unexpectedValues = newArrayList(actualAsList);
+      // after the for loop, missing = actual - expectedValues
+      missingValues = newArrayList(expectedValues);
+      for (Object expected : expectedValues) {
+        if (iterableContains(actualAsList, expected)) {
+          // since expected was found in actual:
+          // -- it does not belong to the missing elements
+          iterablesRemove(missingValues, expected);
+          // -- it does not belong to the unexpected elements
+          iterablesRemove(unexpectedValues, expected);
+        }
       }
     }
 
@@ -416,6 +448,22 @@ public class Iterables {
     }
   }
 
+  // a comparator might not impose a total ordering (e.g. field by field comparators), looking up values in sorted elements
+  // can then miss equal elements, so the sorted elements are only used to tell that the assertion succeeded, comparing each
+  // element reports the differences (or decides the assertion succeeded after all).
+  private boolean containsOnlyAccordingToSortedElements(List<?> actual, Object[] expectedValues) {
+    if (!SortedElements.canSort(comparisonStrategy, actual, expectedValues)) return false;
+    try {
+      SortedElements sortedActual = SortedElements.sort(comparisonStrategy, actual);
+      SortedElements sortedExpected = SortedElements.sort(comparisonStrategy, list(expectedValues));
+      return stream(expectedValues).allMatch(sortedActual::contains)
+             && actual.stream().allMatch(sortedExpected::hasElementEqualTo);
+    } catch (RuntimeException e) {
+      // the comparator might not support comparing elements of different types
+      return false;
+    }
+  }
+
   /**
    * Asserts that the given {@code Iterable} contains the given values and only once.
    *
@@ -430,6 +478,7 @@ public class Iterables {
    */
   public void assertContainsOnlyOnce(AssertionInfo info, Iterable<?> actual, Object[] values) {
     if (commonCheckThatIterableAssertionSucceeds(info, failures, actual, values)) return;
+    if (containsOnlyOnceAccordingToSortedElements(actual, values)) return;
     // check for elements in values that are missing in actual.
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
@@ -446,6 +495,20 @@ public class Iterables {
     // assertion succeeded
   }
 
+  private boolean containsOnlyOnceAccordingToSortedElements(Iterable<?> actual, Object[] values) {
+    if (!SortedElements.canSort(comparisonStrategy, actual, values)) return false;
+    try {
+      SortedElements sortedActual = SortedElements.sort(comparisonStrategy, actual);
+      if (!stream(values).allMatch(sortedActual::contains)) return false;
+      // counting the elements equal to a value in the sorted elements misses the ones that are not next to each other
+      // when the comparator does not impose a total ordering, duplicates are thus looked up like in assertContainsOnlyOnce
+      Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(actual);
+      return stream(values).noneMatch(value -> iterableContains(actualDuplicates, value));
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
   /**
    * Asserts that the given {@code Iterable} contains only null elements and nothing else.
    *
@@ -480,45 +543,19 @@ public class Iterables {
     // perform the checks that would have been done in commonCheckThatIterableAssertionSucceeds but do them explicitly without
     // having to create a new iterator on actual - which would break if actual were only singly-traversable.
     checkNotNullIterables(info, actual, sequence);
-    // store the elements from actual that have been visited (because we don't know we can look ahead - the 'actual'
-    // might be singly-traversable) in a fixed-length LIFO having what is in effect a sliding window.
-    // So we store each element and slide for each new element until a match is found or until the 'actual' is
-    // exhausted. Of course if 'actual' really is infinite then this could take a while :-D
+    // match the elements from actual one at a time (because we don't know we can look ahead - the 'actual' might be
+    // singly-traversable) until the whole sequence is matched or until the 'actual' is exhausted.
+    // Of course if 'actual' really is infinite then this could take a while :-D
     final Iterator<?> actualIterator = actual.iterator();
     if (!actualIterator.hasNext() && sequence.length == 0) return;
     failIfEmptySinceActualIsNotEmpty(info, failures, actual, sequence);
-    // we only store sequence.length entries from actual in the LIFO, no need for more.
-    Lifo lifo = new Lifo(sequence.length);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(comparisonStrategy, sequence);
     while (actualIterator.hasNext()) {
-      lifo.add(actualIterator.next());
-      if (lifo.matchesExactly(sequence)) return;
+      if (sequenceMatcher.completesSequence(actualIterator.next())) return;
     }
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
-  private class Lifo {
-    private final int maxSize;
-    private final LinkedList<Object> stack;
-
-    Lifo(int maxSize) {
-      this.maxSize = maxSize;
-      stack = new LinkedList<>();
-    }
-
-    void add(final Object element) {
-      if (stack.size() == maxSize) stack.removeFirst();
-      stack.addLast(element);
-    }
-
-    boolean matchesExactly(Object[] sequence) {
-      if (stack.size() != sequence.length) return false;
-      for (int i = 0; i < sequence.length; i++) {
-        if (!areEqual(stack.get(i), sequence[i])) return false;
-      }
-      return true;
-    }
-  }
-
   /**
    * Verifies that the given <code>{@link Iterable}</code> does not contain the given sequence of objects in order.
    *
@@ -534,13 +571,13 @@ public class Iterables {
     requireNonNull(sequence, nullSequence());
     checkIsNotEmptySequence(sequence);
     assertNotNull(info, actual);
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, index)) {
-        throw actualDoesContainSequence(info, actual, sequence, index);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(comparisonStrategy, sequence);
+    int index = 0;
+    for (Object element : actual) {
+      if (sequenceMatcher.completesSequence(element)) {
+        throw actualDoesContainSequence(info, actual, sequence, index - sequence.length + 1);
       }
+      index++;
     }
   }
 
@@ -557,20 +594,27 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} does not contain the given subsequence of objects.
    */
   public void assertContainsSubsequence(AssertionInfo info, Iterable<?> actual, Object[] subsequence) {
-    if (commonCheckThatIterableAssertionSucceeds(info, failures, actual, subsequence)) return;
-    if (sizeOf(actual) < subsequence.length) {
-      throw failures.failure(info, actualDoesNotHaveEnoughElementsToContainSubsequence(actual, subsequence));
-    }
-
+    // same checks as commonCheckThatIterableAssertionSucceeds but iterating actual only once in case it is singly-traversable
+    checkNotNullIterables(info, actual, subsequence);
     Iterator<?> actualIterator = actual.iterator();
+    if (!actualIterator.hasNext() && subsequence.length == 0) return;
+    failIfEmptySinceActualIsNotEmpty(info, failures, actual, subsequence);
+
+    int actualSize = 0;
     int subsequenceIndex = 0;
     while (actualIterator.hasNext() && subsequenceIndex < subsequence.length) {
       Object actualNext = actualIterator.next();
+      actualSize++;
       Object subsequenceNext = subsequence[subsequenceIndex];
       if (areEqual(actualNext, subsequenceNext)) subsequenceIndex++;
     }
 
-    if (subsequenceIndex < subsequence.length) throw actualDoesNotContainSubsequence(info, actual, subsequence, subsequenceIndex);
+    if (subsequenceIndex == subsequence.length) return;
+    // actual has been fully iterated
+    if (actualSize < subsequence.length) {
+      throw failures.failure(info, actualDoesNotHaveEnoughElementsToContainSubsequence(actual, subsequence));
+    }
+    throw actualDoesNotContainSubsequence(info, actual, subsequence, subsequenceIndex);
   }
 
   /**
@@ -593,9 +637,8 @@ public class Iterables {
     int subsequenceIndex = 0;
     int subsequenceStartIndex = 0;
 
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      Object actualNext = actualAsList.get(index);
+    int index = 0;
+    for (Object actualNext : actual) {
       Object subsequenceNext = subsequence[subsequenceIndex];
       if (areEqual(actualNext, subsequenceNext)) {
         if (subsequenceIndex == 0) subsequenceStartIndex = index;
@@ -604,6 +647,7 @@ public class Iterables {
       if (subsequenceIndex == subsequence.length) {
         throw actualContainsSubsequence(info, actual, subsequence, subsequenceStartIndex);
       }
+      index++;
     }
   }
 
@@ -626,23 +670,6 @@ public class Iterables {
     if (!extra.isEmpty()) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualAsList the list to look sequence in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) return false;
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) return false;
-    }
-    return true;
-  }
-
   private boolean areEqual(Object actual, Object other) {
     return comparisonStrategy.areEqual(actual, other);
   }
@@ -1395,6 +1422,13 @@ public class Iterables {
     checkIsNotNull(values);
     assertNotNull(info, actual);
     List<Object> notExpected = newArrayList(actual);
+    if (containsExactlyInAnyOrderAccordingToSortedElements(notExpected, values)) return;
+    if (canBeHashed(notExpected, values)) {
+      IterableDiff<Object> diff = diff(notExpected, asList(values), comparisonStrategy);
+      if (!diff.differencesFound()) return;
+      throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected,
+                                                                  comparisonStrategy));
+    }
     List<Object> notFound = newArrayList(values);
 
     for (Object value : values) {
@@ -1410,6 +1444,17 @@ public class Iterables {
                            shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
   }
 
+  // matches each value to an actual element equal to it that has not already been matched
+  private boolean containsExactlyInAnyOrderAccordingToSortedElements(List<?> actual, Object[] values) {
+    if (actual.size() != values.length || !SortedElements.canSort(comparisonStrategy, actual, values)) return false;
+    try {
+      SortedElements sortedActual = SortedElements.sort(comparisonStrategy, actual);
+      return stream(values).allMatch(sortedActual::removeFirst);
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
   void assertNotNull(AssertionInfo info, Iterable<?> actual) {
     Objects.instance().assertNotNull(info, actual);
   }
@@ -14,6 +14,7 @@ package org.assertj.core.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
@@ -37,6 +38,10 @@ public class NioFilesWrapper {
     return Files.newInputStream(path, options);
   }
 
+  public SeekableByteChannel newByteChannel(Path path, OpenOption... options) throws IOException {
+    return Files.newByteChannel(path, options);
+  }
+
   public DirectoryStream<Path> newDirectoryStream(Path dir, Filter<? super Path> filter) throws IOException {
     return Files.newDirectoryStream(dir, filter);
   }
@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -55,8 +54,8 @@ import static org.assertj.core.util.Files.getFileNameExtension;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
@@ -265,7 +264,7 @@ public class Paths {
     checkArgument(Files.isReadable(expected), "The given Path <%s> to compare actual content to should be readable", expected);
     assertIsReadable(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(format(UNABLE_TO_COMPARE_PATH_CONTENTS, actual, expected), ioe);
@@ -291,8 +290,8 @@ public class Paths {
     requireNonNull(expected, "The binary representation of digest to compare to should not be null");
     assertIsRegularFile(info, actual);
     assertIsReadable(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual)) {
-      DigestDiff diff = Digests.digestDiff(actualStream, digest, expected);
+    try (SeekableByteChannel actualChannel = nioFilesWrapper.newByteChannel(actual)) {
+      DigestDiff diff = Digests.digestDiff(actual, actualChannel, digest, expected);
       if (diff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, diff));
     } catch (IOException e) {
       throw new UncheckedIOException(format("Unable to calculate digest of path:<%s>", actual), e);
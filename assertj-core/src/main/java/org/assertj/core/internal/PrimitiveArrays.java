@@ -0,0 +1,244 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Float.floatToIntBits;
+import static java.lang.reflect.Array.getLength;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Checks on primitive arrays compared with the {@link StandardComparisonStrategy} that read the arrays elements directly
+ * instead of boxing them.
+ * <p>
+ * Each element is read as a {@code long} key, two elements are equal if their keys are equal and the keys are ordered
+ * like the elements natural order, floating point keys follow {@link Double#equals(Object)} and
+ * {@link Double#compareTo(Double)} (or their {@code Float} counterparts), i.e. {@code NaN} is equal to itself and
+ * {@code -0.0} is less than {@code 0.0}.
+ * <p>
+ * The checks only tell whether an assertion succeeds, failures are described by the generic {@link Arrays} code.
+ */
+final class PrimitiveArrays {
+
+  private static final int NOT_FOUND = -1;
+  // odd multiplier of the rolling hash polynomial, hashes are computed modulo 2^64
+  private static final long HASH_BASE = 0x100000001B3L;
+
+  /**
+   * Returns true if the given arrays are primitive arrays of the same type compared with the standard comparison
+   * strategy.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare the arrays elements
+   * @param actual the actual array
+   * @param values the values array
+   * @return true if the arrays can be checked with the methods of this class
+   */
+  static boolean canBeCheckedWithoutBoxing(ComparisonStrategy comparisonStrategy, Object actual, Object values) {
+    return comparisonStrategy == StandardComparisonStrategy.instance()
+           && actual.getClass().getComponentType().isPrimitive()
+           && actual.getClass() == values.getClass();
+  }
+
+  /**
+   * Same as {@link #canBeCheckedWithoutBoxing(ComparisonStrategy, Object, Object)} for a single array.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare the array elements
+   * @param actual the actual array
+   * @return true if the array can be checked with the methods of this class
+   */
+  static boolean canBeCheckedWithoutBoxing(ComparisonStrategy comparisonStrategy, Object actual) {
+    return comparisonStrategy == StandardComparisonStrategy.instance() && actual.getClass().getComponentType().isPrimitive();
+  }
+
+  static boolean containsAll(Object actual, Object values) {
+    long[] valuesToFind = distinctSortedKeys(values);
+    boolean[] found = new boolean[valuesToFind.length];
+    int notFoundCount = valuesToFind.length;
+    IntToLongFunction actualKeys = keysOf(actual);
+    int actualLength = getLength(actual);
+    for (int i = 0; i < actualLength && notFoundCount > 0; i++) {
+      int index = java.util.Arrays.binarySearch(valuesToFind, actualKeys.applyAsLong(i));
+      if (index >= 0 && !found[index]) {
+        found[index] = true;
+        notFoundCount--;
+      }
+    }
+    return notFoundCount == 0;
+  }
+
+  static boolean containsOnly(Object actual, Object values) {
+    return java.util.Arrays.equals(distinctSortedKeys(actual), distinctSortedKeys(values));
+  }
+
+  static boolean containsExactlyInAnyOrder(Object actual, Object values) {
+    return java.util.Arrays.equals(sortedKeys(actual), sortedKeys(values));
+  }
+
+  static boolean hasDuplicates(Object actual) {
+    long[] keys = sortedKeys(actual);
+    for (int i = 1; i < keys.length; i++) {
+      if (keys[i] == keys[i - 1]) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the index of the first element greater than the next one, or -1 if the array is sorted.
+   *
+   * @param actual the array to check
+   * @return the index of the first element greater than the next one, or -1 if the array is sorted.
+   */
+  static int indexOfFirstUnsortedElement(Object actual) {
+    IntToLongFunction keys = keysOf(actual);
+    int length = getLength(actual);
+    for (int i = 0; i < length - 1; i++) {
+      if (keys.applyAsLong(i) > keys.applyAsLong(i + 1)) return i;
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in actual, or -1 if actual does not contain it.
+   * <p>
+   * The sequence is searched with a rolling hash (Rabin-Karp): the hash of the actual window is updated for each element
+   * and the elements are only compared when it is equal to the sequence hash, which takes O(N + k) operations unless
+   * many windows have colliding hashes.
+   *
+   * @param actual the array to search the sequence in
+   * @param sequence the sequence to look for
+   * @return the index of the first occurrence of the given sequence in actual, or -1 if actual does not contain it.
+   */
+  static int indexOfSequence(Object actual, Object sequence) {
+    IntToLongFunction actualKeys = keysOf(actual);
+    IntToLongFunction sequenceKeys = keysOf(sequence);
+    int actualLength = getLength(actual);
+    int sequenceLength = getLength(sequence);
+    if (sequenceLength > actualLength) return NOT_FOUND;
+    if (sequenceLength == 0) return 0;
+    long sequenceHash = 0;
+    long windowHash = 0;
+    // HASH_BASE^(sequenceLength - 1), used to remove the first element of the window from its hash
+    long firstElementFactor = 1;
+    for (int i = 0; i < sequenceLength; i++) {
+      sequenceHash = sequenceHash * HASH_BASE + mix(sequenceKeys.applyAsLong(i));
+      windowHash = windowHash * HASH_BASE + mix(actualKeys.applyAsLong(i));
+      if (i > 0) firstElementFactor *= HASH_BASE;
+    }
+    for (int windowStart = 0;; windowStart++) {
+      if (windowHash == sequenceHash && regionMatches(actualKeys, windowStart, sequenceKeys, sequenceLength)) {
+        return windowStart;
+      }
+      int nextElementIndex = windowStart + sequenceLength;
+      if (nextElementIndex == actualLength) return NOT_FOUND;
+      windowHash = (windowHash - mix(actualKeys.applyAsLong(windowStart)) * firstElementFactor) * HASH_BASE
+                   + mix(actualKeys.applyAsLong(nextElementIndex));
+    }
+  }
+
+  // spreads the keys bits so that close values (e.g. consecutive integers) don't give close hashes
+  private static long mix(long key) {
+    long mixed = key * 0x9E3779B97F4A7C15L;
+    return mixed ^ (mixed >>> 32);
+  }
+
+  /**
+   * Returns true if actual contains the given sequence starting at the given index.
+   *
+   * @param actual the array to check
+   * @param actualStartIndex the index where the sequence is expected to start, actual must have enough elements after it
+   * @param sequence the expected sequence
+   * @return true if actual contains the given sequence starting at the given index.
+   */
+  static boolean containsSequenceAt(Object actual, int actualStartIndex, Object sequence) {
+    return regionMatches(keysOf(actual), actualStartIndex, keysOf(sequence), getLength(sequence));
+  }
+
+  private static boolean regionMatches(IntToLongFunction actualKeys, int actualStartIndex, IntToLongFunction sequenceKeys,
+                                       int sequenceLength) {
+    for (int i = 0; i < sequenceLength; i++) {
+      if (actualKeys.applyAsLong(actualStartIndex + i) != sequenceKeys.applyAsLong(i)) return false;
+    }
+    return true;
+  }
+
+  private static long[] sortedKeys(Object array) {
+    IntToLongFunction keys = keysOf(array);
+    long[] sortedKeys = new long[getLength(array)];
+    for (int i = 0; i < sortedKeys.length; i++) {
+      sortedKeys[i] = keys.applyAsLong(i);
+    }
+    java.util.Arrays.sort(sortedKeys);
+    return sortedKeys;
+  }
+
+  private static long[] distinctSortedKeys(Object array) {
+    long[] sortedKeys = sortedKeys(array);
+    if (sortedKeys.length == 0) return sortedKeys;
+    int distinctCount = 1;
+    for (int i = 1; i < sortedKeys.length; i++) {
+      if (sortedKeys[i] != sortedKeys[distinctCount - 1]) sortedKeys[distinctCount++] = sortedKeys[i];
+    }
+    return java.util.Arrays.copyOf(sortedKeys, distinctCount);
+  }
+
+  private static IntToLongFunction keysOf(Object array) {
+    if (array instanceof int[]) {
+      int[] ints = (int[]) array;
+      return i -> ints[i];
+    }
+    if (array instanceof long[]) {
+      long[] longs = (long[]) array;
+      return i -> longs[i];
+    }
+    if (array instanceof double[]) {
+      double[] doubles = (double[]) array;
+      return i -> keyOf(doubles[i]);
+    }
+    if (array instanceof float[]) {
+      float[] floats = (float[]) array;
+      return i -> keyOf(floats[i]);
+    }
+    if (array instanceof byte[]) {
+      byte[] bytes = (byte[]) array;
+      return i -> bytes[i];
+    }
+    if (array instanceof short[]) {
+      short[] shorts = (short[]) array;
+      return i -> shorts[i];
+    }
+    if (array instanceof char[]) {
+      char[] chars = (char[]) array;
+      return i -> chars[i];
+    }
+    if (array instanceof boolean[]) {
+      boolean[] booleans = (boolean[]) array;
+      return i -> booleans[i] ? 1 : 0;
+    }
+    throw new IllegalArgumentException("Expecting a primitive array but was: " + array.getClass());
+  }
+
+  // NaN values are collapsed by doubleToLongBits, negative values bits are flipped so that keys follow Double.compare order
+  private static long keyOf(double value) {
+    long bits = doubleToLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  private static long keyOf(float value) {
+    int bits = floatToIntBits(value);
+    return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+  }
+
+  private PrimitiveArrays() {}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.stream;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Sets.newHashSet;
+
+import java.util.Set;
+
+/**
+ * Looks for a sequence in elements given one at a time.
+ * <p>
+ * When the elements and sequence values are compared with {@code equals} and are of types whose {@code equals} is an
+ * equivalence relation (e.g. {@code String} or {@code Integer}), the matcher uses the Knuth-Morris-Pratt algorithm: when an
+ * element does not match the next sequence value, it falls back to the longest prefix of the sequence that is also a suffix
+ * of the values matched so far instead of comparing the sequence again from each element, looking for a sequence of k values
+ * in N elements thus takes O(N + k) comparisons instead of O(N·k).
+ * <p>
+ * These fallbacks rely on the comparison being transitive, which comparators (e.g. comparing doubles with a tolerance) and
+ * the {@code equals} of other types (e.g. {@code Date} and {@code Timestamp}) don't guarantee, in that case each element is
+ * the last one of a window of the k last elements compared to the sequence.
+ */
+final class SequenceMatcher {
+
+  // types whose equals is an equivalence relation only true for instances of the same type
+  private static final Set<Class<?>> TYPES_WITH_EQUIVALENCE_EQUALS = newHashSet(list(String.class, Boolean.class,
+                                                                                     Character.class, Byte.class, Short.class,
+                                                                                     Integer.class, Long.class, Float.class,
+                                                                                     Double.class));
+
+  private final ComparisonStrategy comparisonStrategy;
+  private final Object[] sequence;
+  // fallbacks[i] is the length of the longest proper prefix of sequence[0..i] which is also a suffix of it, null when the
+  // comparison is not known to be transitive
+  private int[] fallbacks;
+  private int matchedCount;
+  // the last sequence.length elements, window[elementCount % sequence.length] being the oldest one once it is full
+  private final Object[] window;
+  private long elementCount;
+
+  /**
+   * Creates a matcher for the given non empty sequence.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare elements to the sequence values
+   * @param sequence the sequence to look for
+   */
+  SequenceMatcher(ComparisonStrategy comparisonStrategy, Object[] sequence) {
+    this.comparisonStrategy = comparisonStrategy;
+    this.sequence = sequence;
+    this.window = new Object[sequence.length];
+    boolean transitiveComparison = comparisonStrategy == StandardComparisonStrategy.instance()
+                                   && stream(sequence).allMatch(SequenceMatcher::hasEquivalenceEquals);
+    if (transitiveComparison) this.fallbacks = fallbacksOf(sequence);
+  }
+
+  private int[] fallbacksOf(Object[] sequence) {
+    int[] sequenceFallbacks = new int[sequence.length];
+    int prefixLength = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (prefixLength > 0 && !comparisonStrategy.areEqual(sequence[i], sequence[prefixLength])) {
+        prefixLength = sequenceFallbacks[prefixLength - 1];
+      }
+      if (comparisonStrategy.areEqual(sequence[i], sequence[prefixLength])) prefixLength++;
+      sequenceFallbacks[i] = prefixLength;
+    }
+    return sequenceFallbacks;
+  }
+
+  private static boolean hasEquivalenceEquals(Object value) {
+    return value == null || value instanceof Enum || TYPES_WITH_EQUIVALENCE_EQUALS.contains(value.getClass());
+  }
+
+  /**
+   * Matches the given element, which follows the previously matched ones, against the sequence.
+   *
+   * @param element the next element
+   * @return true if the given element is the last one of an occurrence of the sequence, false otherwise.
+   */
+  boolean completesSequence(Object element) {
+    window[(int) (elementCount++ % window.length)] = element;
+    // the fallbacks are only valid if all the elements compared so far have an equivalence equals, the windows ending before
+    // this element have been compared correctly, the next ones are compared to the sequence one by one
+    if (fallbacks != null && !hasEquivalenceEquals(element)) fallbacks = null;
+    return fallbacks != null ? completesSequenceWithFallbacks(element) : windowMatchesSequence();
+  }
+
+  private boolean completesSequenceWithFallbacks(Object element) {
+    while (true) {
+      if (comparisonStrategy.areEqual(element, sequence[matchedCount])) {
+        matchedCount++;
+        break;
+      }
+      if (matchedCount == 0) break;
+      matchedCount = fallbacks[matchedCount - 1];
+    }
+    if (matchedCount < sequence.length) return false;
+    // look for the next occurrence which can overlap this one
+    matchedCount = fallbacks[matchedCount - 1];
+    return true;
+  }
+
+  private boolean windowMatchesSequence() {
+    if (elementCount < window.length) return false;
+    // the oldest element is the one that will be replaced by the next element
+    int oldestElementIndex = (int) (elementCount % window.length);
+    for (int i = 0; i < sequence.length; i++) {
+      if (!comparisonStrategy.areEqual(window[(oldestElementIndex + i) % window.length], sequence[i])) return false;
+    }
+    return true;
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Elements sorted according to the comparator of a {@link ComparatorBasedComparisonStrategy}, the elements equal according
+ * to the comparator are next to each other in their original order.
+ * <p>
+ * Looking up a value is a binary search taking O(log N) comparisons instead of comparing it to each element, this requires
+ * the comparator to impose a total ordering on the elements, as stated in the {@link Comparator} contract. Comparators
+ * used in assertions don't always do (e.g. field by field comparators only tell whether elements are equal), a look up can
+ * then miss an equal element but never finds an element that is not equal, callers must thus fall back to comparing each
+ * element when a value is not found or when the comparator throws an exception.
+ */
+final class SortedElements {
+
+  private final Comparator<Object> comparator;
+  private final List<Object> elements;
+  // the elements indexes in the sort order, the sort is stable so equal elements keep their original order
+  private final int[] sortedIndexes;
+  // the number of removed elements of each group of equal elements, indexed by the group start in sortedIndexes
+  private final int[] removedCounts;
+  // the removed elements, indexed by their position in sortedIndexes, a comparator not imposing a total ordering can give
+  // groups overlapping one another
+  private final boolean[] removed;
+
+  private SortedElements(Comparator<Object> comparator, Iterable<?> elements) {
+    this.comparator = comparator;
+    this.elements = new ArrayList<>();
+    elements.forEach(this.elements::add);
+    Integer[] indexes = new Integer[this.elements.size()];
+    Arrays.setAll(indexes, i -> i);
+    Arrays.sort(indexes, (i, j) -> comparator.compare(this.elements.get(i), this.elements.get(j)));
+    this.sortedIndexes = stream(indexes).mapToInt(Integer::intValue).toArray();
+    this.removedCounts = new int[sortedIndexes.length];
+    this.removed = new boolean[sortedIndexes.length];
+  }
+
+  /**
+   * Returns true if the given elements can be sorted to look up the given values in them, that is if the given comparison
+   * strategy is comparator based and if the elements and values don't contain nulls, as those are not given to the
+   * comparator when comparing each element.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare the elements and values
+   * @param elements the elements to sort
+   * @param values the values to look up
+   * @return true if the given elements can be sorted, false otherwise.
+   */
+  static boolean canSort(ComparisonStrategy comparisonStrategy, Iterable<?> elements, Object[] values) {
+    if (!(comparisonStrategy instanceof ComparatorBasedComparisonStrategy)) return false;
+    if (stream(values).anyMatch(Objects::isNull)) return false;
+    for (Object element : elements) {
+      if (element == null) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Sorts the given elements according to the comparator of the given comparison strategy which must be comparator based.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare the elements
+   * @param elements the elements to sort
+   * @return the sorted elements.
+   * @throws RuntimeException if the comparator fails to compare the elements
+   */
+  @SuppressWarnings("unchecked")
+  static SortedElements sort(ComparisonStrategy comparisonStrategy, Iterable<?> elements) {
+    Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+    return new SortedElements((Comparator<Object>) comparator, elements);
+  }
+
+  int size() {
+    return sortedIndexes.length;
+  }
+
+  // an element is equal to the value according to comparator.compare(element, value), like in iterableContains
+  boolean contains(Object value) {
+    return groupStart(value) != -1;
+  }
+
+  // the value is equal to an element according to comparator.compare(value, element)
+  boolean hasElementEqualTo(Object value) {
+    int position = lowerBound(value);
+    return position < sortedIndexes.length && comparator.compare(value, elements.get(sortedIndexes[position])) == 0;
+  }
+
+  /**
+   * Removes the first element equal to the given value (in the original order) that has not already been removed, elements
+   * are equal to the value according to comparator.compare(element, value).
+   *
+   * @param value the value to remove
+   * @return true if an element was removed, false otherwise.
+   */
+  boolean removeFirst(Object value) {
+    int groupStart = groupStart(value);
+    if (groupStart == -1) return false;
+    int position = groupStart + removedCounts[groupStart];
+    while (position < sortedIndexes.length && removed[position]) position++;
+    if (position == sortedIndexes.length || !isEqualTo(position, value)) return false;
+    removed[position] = true;
+    removedCounts[groupStart] = position - groupStart + 1;
+    return true;
+  }
+
+  // the position in sortedIndexes of the first element equal to the given value, -1 if there are none
+  private int groupStart(Object value) {
+    int position = lowerBound(value);
+    return position < sortedIndexes.length && isEqualTo(position, value) ? position : -1;
+  }
+
+  // the position in sortedIndexes of the first element not less than the given value
+  private int lowerBound(Object value) {
+    int low = 0;
+    int high = sortedIndexes.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (comparator.compare(elements.get(sortedIndexes[middle]), value) < 0) low = middle + 1;
+      else high = middle;
+    }
+    return low;
+  }
+
+  private boolean isEqualTo(int position, Object value) {
+    return comparator.compare(elements.get(sortedIndexes[position]), value) == 0;
+  }
+
+}
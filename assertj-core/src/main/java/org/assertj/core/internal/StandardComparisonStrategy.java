@@ -33,6 +33,22 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
 
   private static final StandardComparisonStrategy INSTANCE = new StandardComparisonStrategy();
 
+  // hashCode is consistent with equals if they are declared in the same class or if hashCode is overridden in a subclass,
+  // arrays are excluded since they are compared by content but their hashCode is the identity one.
+  private static final ClassValue<Boolean> HASH_CODE_CONSISTENT_WITH_EQUALS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      if (type.isArray()) return false;
+      try {
+        Class<?> equalsDeclaringClass = type.getMethod("equals", Object.class).getDeclaringClass();
+        Class<?> hashCodeDeclaringClass = type.getMethod("hashCode").getDeclaringClass();
+        return equalsDeclaringClass.isAssignableFrom(hashCodeDeclaringClass);
+      } catch (NoSuchMethodException | SecurityException e) {
+        return false;
+      }
+    }
+  };
+
   /**
    * Returns the singleton instance of this class.
    *
@@ -108,6 +124,41 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     return actual.equals(other);
   }
 
+  /**
+   * Returns true if the standard comparison strategy is used and if the given elements can be looked up in hash based
+   * collections, that is if their {@code hashCode} is consistent with {@link #areEqual(Object, Object)}.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare the given elements
+   * @param elements the elements to check
+   * @return true if the given elements can be looked up in hash based collections, false otherwise.
+   */
+  static boolean canBeHashed(ComparisonStrategy comparisonStrategy, Iterable<?> elements) {
+    if (comparisonStrategy != INSTANCE) return false;
+    for (Object element : elements) {
+      if (!hasHashCodeConsistentWithEquals(element)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Same as {@link #canBeHashed(ComparisonStrategy, Iterable)} for an array of elements.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare the given elements
+   * @param elements the elements to check
+   * @return true if the given elements can be looked up in hash based collections, false otherwise.
+   */
+  static boolean canBeHashed(ComparisonStrategy comparisonStrategy, Object[] elements) {
+    if (comparisonStrategy != INSTANCE) return false;
+    for (Object element : elements) {
+      if (!hasHashCodeConsistentWithEquals(element)) return false;
+    }
+    return true;
+  }
+
+  private static boolean hasHashCodeConsistentWithEquals(Object element) {
+    return element == null || HASH_CODE_CONSISTENT_WITH_EQUALS.get(element.getClass());
+  }
+
   /**
    * Returns true if given {@link Iterable} contains given value based on {@link java.util.Objects#deepEquals(Object, Object)},
    * false otherwise.<br>
@@ -71,6 +71,14 @@ import static org.assertj.core.error.ShouldStartWithIgnoringCase.shouldStartWith
 import static org.assertj.core.internal.Arrays.assertIsArray;
 import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsEmpty;
 import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsNull;
+import static org.assertj.core.internal.CharSequences.canBeLowerCasedCharByChar;
+import static org.assertj.core.internal.CharSequences.endsWithIgnoringCase;
+import static org.assertj.core.internal.CharSequences.equalsIgnoringCase;
+import static org.assertj.core.internal.CharSequences.equalsIgnoringWhitespace;
+import static org.assertj.core.internal.CharSequences.equalsNormalizingWhitespace;
+import static org.assertj.core.internal.CharSequences.indexOfIgnoringCase;
+import static org.assertj.core.internal.CharSequences.isNonBreakingSpace;
+import static org.assertj.core.internal.CharSequences.startsWithIgnoringCase;
 import static org.assertj.core.internal.CommonValidations.checkLineCounts;
 import static org.assertj.core.internal.CommonValidations.checkOtherIsNotNull;
 import static org.assertj.core.internal.CommonValidations.checkSameSizes;
@@ -85,10 +93,8 @@ import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.text.Normalizer;
 import java.util.Base64;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -109,16 +115,6 @@ import org.assertj.core.util.VisibleForTesting;
  */
 public class Strings {
 
-  private static final Set<Character> NON_BREAKING_SPACES;
-
-  static {
-    Set<Character> nonBreakingSpaces = new HashSet<>();
-    nonBreakingSpaces.add('\u00A0');
-    nonBreakingSpaces.add('\u2007');
-    nonBreakingSpaces.add('\u202F');
-    NON_BREAKING_SPACES = Collections.unmodifiableSet(nonBreakingSpaces);
-  }
-
   private static final String EMPTY_STRING = "";
   private static final Strings INSTANCE = new Strings();
   private static final String PUNCTUATION_REGEX = "\\p{Punct}";
@@ -270,9 +266,20 @@ public class Strings {
   }
 
   private boolean stringContains(CharSequence actual, CharSequence sequence) {
+    // a String is searched by String.contains, other char sequences (e.g. StringBuilder) are searched without copying them
+    if (isStandardComparisonStrategy() && !(actual instanceof String)) return CharSequences.indexOf(actual, sequence) != -1;
     return comparisonStrategy.stringContains(actual.toString(), sequence.toString());
   }
 
+  private boolean isStandardComparisonStrategy() {
+    return comparisonStrategy == StandardComparisonStrategy.instance();
+  }
+
+  // comparing the chars lower-cased one by one gives the same result as comparing the lower-cased sequences
+  private boolean canBeComparedIgnoringCaseInPlace(CharSequence actual, CharSequence sequence) {
+    return isStandardComparisonStrategy() && canBeLowerCasedCharByChar(actual) && canBeLowerCasedCharByChar(sequence);
+  }
+
   public void assertContainsIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence sequence) {
     checkCharSequenceIsNotNull(sequence);
     assertNotNull(info, actual);
@@ -281,6 +288,7 @@ public class Strings {
   }
 
   private boolean containsIgnoreCase(CharSequence actual, CharSequence sequence) {
+    if (canBeComparedIgnoringCaseInPlace(actual, sequence)) return indexOfIgnoringCase(actual, sequence) != -1;
     return comparisonStrategy.stringContains(actual.toString().toLowerCase(ROOT), sequence.toString().toLowerCase(ROOT));
   }
 
@@ -333,6 +341,7 @@ public class Strings {
   private static boolean areEqualIgnoringCase(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     if (expected == null) return false;
+    if (canBeLowerCasedCharByChar(actual) && canBeLowerCasedCharByChar(expected)) return equalsIgnoringCase(actual, expected);
     return actual.toString().equalsIgnoreCase(expected.toString());
   }
 
@@ -361,7 +370,7 @@ public class Strings {
   private boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return removeAllWhitespaces(actual).equals(removeAllWhitespaces(expected));
+    return equalsIgnoringWhitespace(actual, expected);
   }
 
   public static String removeAllWhitespaces(CharSequence toBeStripped) {
@@ -378,6 +387,7 @@ public class Strings {
 
   public void assertEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
+    if (areEqualNormalizingWhitespace(actual, expected, false)) return;
     String normalizedActual = normalizeWhitespace(actual);
     String normalizedExpected = normalizeWhitespace(expected);
     if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
@@ -386,19 +396,23 @@ public class Strings {
 
   public void assertNotEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespace(actual);
-    String normalizedExpected = normalizeWhitespace(expected);
-    if (java.util.Objects.equals(normalizedActual, normalizedExpected))
+    if (areEqualNormalizingWhitespace(actual, expected, false))
       throw failures.failure(info, shouldNotBeEqualNormalizingWhitespace(actual, expected));
   }
 
+  // the normalized sequences are only built to report the differences
+  private static boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected, boolean ignorePunctuation) {
+    if (actual == null) return expected == null;
+    return equalsNormalizingWhitespace(actual, expected, ignorePunctuation);
+  }
+
   private static String normalizeWhitespace(CharSequence toNormalize) {
     if (toNormalize == null) return null;
     final StringBuilder result = new StringBuilder(toNormalize.length());
     boolean lastWasSpace = true;
     for (int i = 0; i < toNormalize.length(); i++) {
       char c = toNormalize.charAt(i);
-      if (isWhitespace(c) || NON_BREAKING_SPACES.contains(c)) {
+      if (isWhitespace(c) || isNonBreakingSpace(c)) {
         if (!lastWasSpace) result.append(' ');
         lastWasSpace = true;
       } else {
@@ -411,6 +425,7 @@ public class Strings {
 
   public void assertEqualsNormalizingPunctuationAndWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
+    if (areEqualNormalizingWhitespace(actual, expected, true)) return;
     String normalizedActual = normalizeWhitespaceAndPunctuation(actual);
     String normalizedExpected = normalizeWhitespaceAndPunctuation(expected);
     if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
@@ -485,6 +500,7 @@ public class Strings {
   }
 
   private boolean startsWith(CharSequence actual, CharSequence prefix, boolean ignoreCase) {
+    if (ignoreCase && canBeComparedIgnoringCaseInPlace(actual, prefix)) return startsWithIgnoringCase(actual, prefix);
     return ignoreCase
         ? comparisonStrategy.stringStartsWith(actual.toString().toLowerCase(ROOT), prefix.toString().toLowerCase(ROOT))
         : comparisonStrategy.stringStartsWith(actual.toString(), prefix.toString());
@@ -523,6 +539,7 @@ public class Strings {
   }
 
   private boolean endsWith(CharSequence actual, CharSequence suffix, boolean ignoreCase) {
+    if (ignoreCase && canBeComparedIgnoringCaseInPlace(actual, suffix)) return endsWithIgnoringCase(actual, suffix);
     return ignoreCase
         ? comparisonStrategy.stringEndsWith(actual.toString().toLowerCase(ROOT), suffix.toString().toLowerCase(ROOT))
         : comparisonStrategy.stringEndsWith(actual.toString(), suffix.toString());
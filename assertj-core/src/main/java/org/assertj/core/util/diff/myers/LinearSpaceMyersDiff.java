@@ -0,0 +1,302 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * The linear space variant of the Eugene Myers differencing algorithm, described in section 4b of the paper
+ * <a href="http://www.xmailserver.org/diff2.pdf">An O(ND) Difference Algorithm and Its Variations</a>.
+ * <p>
+ * Unlike {@link MyersDiff} which keeps a path node per step, this algorithm finds the middle snake of the shortest edit
+ * script and recursively diffs the sequences before and after it, it thus only needs O(N+M) memory whatever the number of
+ * differences. To speed up the comparisons:
+ * <ul>
+ * <li>the common prefix and suffix of the sequences are skipped before diffing</li>
+ * <li>sequences with few differences are diffed with the greedy forward search of the paper which scans them only once,
+ * the middle snake is only looked for when there are too many differences for the search path to be kept in memory</li>
+ * <li>when looking for middle snakes, the elements are compared as int identifiers, equal elements having the same
+ * identifier</li>
+ * <li>the diff stops once the given maximum number of deltas has been found</li>
+ * </ul>
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  // the greedy search keeps (D+1)^2 path ints for D differences
+  private static final int GREEDY_SEARCH_MAX_DIFFERENCES = 256;
+
+  private final int maxDeltas;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm reporting all the deltas.
+   */
+  public LinearSpaceMyersDiff() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm reporting at most the given number of deltas,
+   * the first ones in the sequences order.
+   *
+   * @param maxDeltas the maximum number of reported deltas.
+   * @throws IllegalArgumentException if {@code maxDeltas} is not positive.
+   */
+  public LinearSpaceMyersDiff(int maxDeltas) {
+    checkArgument(maxDeltas > 0, "maximum number of deltas must be positive but was %s", maxDeltas);
+    this.maxDeltas = maxDeltas;
+  }
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    return new Comparison(original, revised).patch;
+  }
+
+  /**
+   * The comparison of two lists, ranges of the lists are designated by their start (inclusive) and end (exclusive) indexes.
+   */
+  private class Comparison {
+
+    private final List<T> original;
+    private final List<T> revised;
+    private final Patch<T> patch = new Patch<>();
+    private final int prefixLength;
+    // the identifiers of the elements between the common prefix and suffix, only computed to look for middle snakes
+    private int[] originalIds;
+    private int[] revisedIds;
+    // the furthest reaching paths of the middle snake forward and backward searches, indexed by diagonal
+    private int[] forward;
+    private int[] backward;
+    private int diagonalOffset;
+    // the end of the last matching elements, the elements between it and the next matching ones make a delta
+    private int originalMatchEnd;
+    private int revisedMatchEnd;
+    private int deltasCount;
+
+    private Comparison(List<T> original, List<T> revised) {
+      this.original = original;
+      this.revised = revised;
+      int commonLength = Math.min(original.size(), revised.size());
+      int prefixLength = 0;
+      while (prefixLength < commonLength && areEqual(prefixLength, prefixLength)) prefixLength++;
+      int suffixLength = 0;
+      while (suffixLength < commonLength - prefixLength
+             && areEqual(original.size() - 1 - suffixLength, revised.size() - 1 - suffixLength))
+        suffixLength++;
+      this.prefixLength = prefixLength;
+      int originalEnd = original.size() - suffixLength;
+      int revisedEnd = revised.size() - suffixLength;
+      match(0, 0, prefixLength);
+      if (!diffGreedily(prefixLength, originalEnd, prefixLength, revisedEnd)) {
+        Map<T, Integer> ids = new HashMap<>();
+        originalIds = ids(original.subList(prefixLength, originalEnd), ids);
+        revisedIds = ids(revised.subList(prefixLength, revisedEnd), ids);
+        // the number of differences is at most the number of elements
+        diagonalOffset = (originalIds.length + revisedIds.length + 1) / 2 + 2;
+        forward = new int[2 * diagonalOffset + 1];
+        backward = new int[2 * diagonalOffset + 1];
+        compare(prefixLength, originalEnd, prefixLength, revisedEnd);
+      }
+      match(originalEnd, revisedEnd, suffixLength);
+      addDelta(original.size(), revised.size());
+    }
+
+    private int[] ids(List<T> elements, Map<T, Integer> ids) {
+      int[] elementIds = new int[elements.size()];
+      for (int i = 0; i < elementIds.length; i++) {
+        Integer id = ids.computeIfAbsent(elements.get(i), element -> ids.size());
+        elementIds[i] = id;
+      }
+      return elementIds;
+    }
+
+    private boolean areEqual(int originalIndex, int revisedIndex) {
+      if (originalIds != null) return originalIds[originalIndex - prefixLength] == revisedIds[revisedIndex - prefixLength];
+      T originalElement = original.get(originalIndex);
+      T revisedElement = revised.get(revisedIndex);
+      return originalElement == null ? revisedElement == null : originalElement.equals(revisedElement);
+    }
+
+    private void compare(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      if (deltasCount >= maxDeltas) return;
+      int prefixLength = 0;
+      while (originalStart + prefixLength < originalEnd && revisedStart + prefixLength < revisedEnd
+             && areEqual(originalStart + prefixLength, revisedStart + prefixLength))
+        prefixLength++;
+      match(originalStart, revisedStart, prefixLength);
+      originalStart += prefixLength;
+      revisedStart += prefixLength;
+      int suffixLength = 0;
+      while (originalEnd - suffixLength > originalStart && revisedEnd - suffixLength > revisedStart
+             && areEqual(originalEnd - 1 - suffixLength, revisedEnd - 1 - suffixLength))
+        suffixLength++;
+      originalEnd -= suffixLength;
+      revisedEnd -= suffixLength;
+      // once the common prefix and suffix are skipped, an empty range means the other range elements are all different
+      if (originalStart < originalEnd && revisedStart < revisedEnd
+          && !diffGreedily(originalStart, originalEnd, revisedStart, revisedEnd)) {
+        int[] middleSnake = middleSnake(originalStart, originalEnd, revisedStart, revisedEnd);
+        compare(originalStart, middleSnake[0], revisedStart, middleSnake[1]);
+        match(middleSnake[0], middleSnake[1], middleSnake[2] - middleSnake[0]);
+        compare(middleSnake[2], originalEnd, middleSnake[3], revisedEnd);
+      }
+      match(originalEnd, revisedEnd, suffixLength);
+    }
+
+    /**
+     * Diffs the given ranges with the greedy forward search if they have at most {@link #GREEDY_SEARCH_MAX_DIFFERENCES}
+     * differences, the search keeps the furthest reaching path of each diagonal for each number of differences to find
+     * back the matching elements of a shortest edit script.
+     *
+     * @return false if the ranges have too many differences to be diffed greedily, true otherwise.
+     */
+    private boolean diffGreedily(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      int n = originalEnd - originalStart;
+      int m = revisedEnd - revisedStart;
+      int maxDifferences = Math.min(n + m, GREEDY_SEARCH_MAX_DIFFERENCES);
+      // paths[d][d + k] is the furthest x reached on diagonal k = x - y with d differences, diagonals -d to d
+      int[][] paths = new int[maxDifferences + 1][];
+      for (int d = 0; d <= maxDifferences; d++) {
+        int[] path = paths[d] = new int[2 * d + 1];
+        int[] previousPath = d == 0 ? null : paths[d - 1];
+        for (int k = -d; k <= d; k += 2) {
+          int x = d == 0 ? 0 : furthestStart(previousPath, d, k);
+          while (x < n && x - k < m && areEqual(originalStart + x, revisedStart + x - k)) x++;
+          path[d + k] = x;
+          if (x >= n && x - k >= m) {
+            matchGreedyPath(paths, d, k, originalStart, revisedStart);
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    // the furthest x from which to follow diagonal k with d differences, given the paths with d - 1 differences
+    private int furthestStart(int[] previousPath, int d, int k) {
+      int previousDiagonal = previousDiagonal(previousPath, d, k);
+      int previousX = previousPath[d - 1 + previousDiagonal];
+      // coming from diagonal k + 1 is an insertion (y + 1), coming from diagonal k - 1 a deletion (x + 1)
+      return previousDiagonal == k + 1 ? previousX : previousX + 1;
+    }
+
+    // the diagonal of the furthest reaching path with d - 1 differences leading to diagonal k
+    private int previousDiagonal(int[] previousPath, int d, int k) {
+      return k == -d || (k != d && previousPath[d - 1 + k - 1] < previousPath[d - 1 + k + 1]) ? k + 1 : k - 1;
+    }
+
+    private void matchGreedyPath(int[][] paths, int differences, int endDiagonal, int originalStart, int revisedStart) {
+      // the snakes of the path, walked back from its end, as {x, y, length}
+      int[][] snakes = new int[differences + 1][];
+      int k = endDiagonal;
+      for (int d = differences; d > 0; d--) {
+        int x = paths[d][d + k];
+        int start = furthestStart(paths[d - 1], d, k);
+        snakes[d] = new int[] { start, start - k, x - start };
+        k = previousDiagonal(paths[d - 1], d, k);
+      }
+      snakes[0] = new int[] { 0, 0, paths[0][0] };
+      for (int[] snake : snakes) {
+        match(originalStart + snake[0], revisedStart + snake[1], snake[2]);
+      }
+    }
+
+    /**
+     * Finds the middle snake of a shortest edit script of the given ranges, as there are no common prefix and suffix the
+     * edit script has at least two differences which are split among both sides of the snake.
+     *
+     * @return the start and end of the snake: {originalStart, revisedStart, originalEnd, revisedEnd}
+     */
+    private int[] middleSnake(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      int n = originalEnd - originalStart;
+      int m = revisedEnd - revisedStart;
+      // the diagonal of the end point in the forward search
+      int delta = n - m;
+      boolean isDeltaOdd = (delta & 1) != 0;
+      // forward[k] is the furthest x reached on diagonal k = x - y from (0, 0), backward[k] the furthest distance to
+      // (n, m) reached on diagonal k = (n - x) - (m - y) from (n, m), a forward diagonal k is the backward diagonal delta - k
+      forward[diagonalOffset + 1] = 0;
+      backward[diagonalOffset + 1] = 0;
+      for (int d = 0; d <= (n + m + 1) / 2; d++) {
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && forward[diagonalOffset + k - 1] < forward[diagonalOffset + k + 1])
+              ? forward[diagonalOffset + k + 1]
+              : forward[diagonalOffset + k - 1] + 1;
+          int snakeStart = x;
+          while (x < n && x - k < m && areEqual(originalStart + x, revisedStart + x - k)) x++;
+          forward[diagonalOffset + k] = x;
+          if (isDeltaOdd && Math.abs(delta - k) <= d - 1 && x + backward[diagonalOffset + delta - k] >= n) {
+            return new int[] { originalStart + snakeStart, revisedStart + snakeStart - k, originalStart + x,
+                revisedStart + x - k };
+          }
+        }
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && backward[diagonalOffset + k - 1] < backward[diagonalOffset + k + 1])
+              ? backward[diagonalOffset + k + 1]
+              : backward[diagonalOffset + k - 1] + 1;
+          int snakeStart = x;
+          while (x < n && x - k < m && areEqual(originalEnd - 1 - x, revisedEnd - 1 - x + k)) x++;
+          backward[diagonalOffset + k] = x;
+          if (!isDeltaOdd && Math.abs(delta - k) <= d && x + forward[diagonalOffset + delta - k] >= n) {
+            return new int[] { originalEnd - x, revisedEnd - x + k, originalEnd - snakeStart, revisedEnd - snakeStart + k };
+          }
+        }
+      }
+      // According to Myers, this cannot happen
+      throw new IllegalStateException("could not find a middle snake");
+    }
+
+    // the given number of elements match from the given indexes
+    private void match(int originalIndex, int revisedIndex, int length) {
+      // an empty match would split the delta around it
+      if (length == 0) return;
+      addDelta(originalIndex, revisedIndex);
+      originalMatchEnd = originalIndex + length;
+      revisedMatchEnd = revisedIndex + length;
+    }
+
+    // adds the delta of the elements between the end of the last matching elements and the given indexes
+    private void addDelta(int originalIndex, int revisedIndex) {
+      if (originalIndex == originalMatchEnd && revisedIndex == revisedMatchEnd) return;
+      if (deltasCount >= maxDeltas) return;
+      Chunk<T> originalChunk = new Chunk<>(originalMatchEnd, copyOfRange(original, originalMatchEnd, originalIndex));
+      Chunk<T> revisedChunk = new Chunk<>(revisedMatchEnd, copyOfRange(revised, revisedMatchEnd, revisedIndex));
+      Delta<T> delta;
+      if (originalChunk.size() == 0) delta = new InsertDelta<>(originalChunk, revisedChunk);
+      else if (revisedChunk.size() == 0) delta = new DeleteDelta<>(originalChunk, revisedChunk);
+      else delta = new ChangeDelta<>(originalChunk, revisedChunk);
+      patch.addDelta(delta);
+      deltasCount++;
+    }
+
+    private List<T> copyOfRange(List<T> elements, int fromIndex, int toIndex) {
+      return new ArrayList<>(elements.subList(fromIndex, toIndex));
+    }
+  }
+}
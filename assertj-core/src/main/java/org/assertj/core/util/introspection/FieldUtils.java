@@ -163,14 +163,30 @@ class FieldUtils {
    */
   static Object readField(Object target, String fieldName, boolean forceAccess) throws IllegalAccessException {
     checkArgument(target != null, "target object must not be null");
-    Class<?> cls = target.getClass();
+    Field field = getReadableField(target.getClass(), fieldName, forceAccess);
+    // already forced access above, don't repeat it here:
+    return readField(field, target);
+  }
+
+  /**
+   * Gets the named field that {@link #readField(Object, String, boolean)} would read on instances of the given class.
+   *
+   * @param cls the class to reflect, must not be null
+   * @param fieldName the field name to obtain
+   * @param forceAccess whether to break scope restrictions using the <code>setAccessible</code> method.
+   *          <code>False</code> will only match public fields.
+   * @return the Field object
+   * @throws IllegalArgumentException if the class or field name is null or the field can not be found, is static or
+   *           synthetic.
+   * @throws IllegalAccessException if field exists but is not public
+   */
+  static Field getReadableField(Class<?> cls, String fieldName, boolean forceAccess) throws IllegalAccessException {
     Field field = getField(cls, fieldName, forceAccess);
     checkArgument(field != null, "Cannot locate field %s on %s", fieldName, cls);
     checkArgument(!isStatic(field.getModifiers()), "Reading static field is not supported and field %s is static on %s",
                   fieldName, cls);
     checkArgument(!field.isSynthetic(), "Reading synthetic field is not supported and field %s is", fieldName);
-    // already forced access above, don't repeat it here:
-    return readField(field, target);
+    return field;
   }
 
 }
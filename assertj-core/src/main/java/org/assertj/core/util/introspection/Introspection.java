@@ -97,17 +97,29 @@ public final class Introspection {
   }
 
   private static Method findGetter(String propertyName, Object target) {
+    return findGetter(propertyName, target.getClass());
+  }
+
+  /**
+   * Returns the getter {@link Method} for a property matching the given name in the given type, the returned getter is
+   * not guaranteed to be public.
+   *
+   * @param propertyName the given property name, must not be empty.
+   * @param type         the type to look the getter in.
+   * @return the getter {@code Method} for a property matching the given name in the given type or {@code null} if none.
+   */
+  static Method findGetter(String propertyName, Class<?> type) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, type);
     if (isValidGetter(getter)) return getter;
-    if (bareNamePropertyMethods || isRecordInstance(target)) {
+    if (bareNamePropertyMethods || isRecordType(type)) {
       // try to find bare name property
-      getter = findMethod(propertyName, target);
+      getter = findMethod(propertyName, type);
       if (isValidGetter(getter)) return getter;
     }
     // try to find isProperty for boolean properties
-    Method isAccessor = findMethod("is" + capitalized, target);
+    Method isAccessor = findMethod("is" + capitalized, type);
     return isValidGetter(isAccessor) ? isAccessor : null;
   }
 
@@ -115,16 +127,16 @@ public final class Introspection {
     return method != null && !Modifier.isStatic(method.getModifiers()) && !Void.TYPE.equals(method.getReturnType());
   }
 
-  private static boolean isRecordInstance(Object target) {
+  private static boolean isRecordType(Class<?> type) {
     try {
-      return Class.forName("java.lang.Record").isInstance(target);
+      return Class.forName("java.lang.Record").isAssignableFrom(type);
     } catch (ClassNotFoundException e) {
       return false;
     }
   }
 
-  private static Method findMethod(String name, Object target) {
-    final MethodKey methodKey = new MethodKey(name, target.getClass());
+  private static Method findMethod(String name, Class<?> type) {
+    final MethodKey methodKey = new MethodKey(name, type);
     return METHOD_CACHE.computeIfAbsent(methodKey, Introspection::findMethodByKey).orElse(null);
   }
 
@@ -13,10 +13,22 @@
 package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.introspection.FieldUtils.getReadableField;
+import static org.assertj.core.util.introspection.Introspection.canExtractBareNamePropertyMethods;
+import static org.assertj.core.util.introspection.Introspection.findGetter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.util.VisibleForTesting;
 
@@ -24,6 +36,9 @@ public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
+  // accessors are resolved once per type and name, including the absent ones to avoid relying on exceptions to find out
+  // that a type has no such property or field
+  private final Map<AccessorKey, Accessor> accessors = new ConcurrentHashMap<>();
 
   public static final PropertyOrFieldSupport EXTRACTION = new PropertyOrFieldSupport();
   public static final PropertyOrFieldSupport COMPARISON = new PropertyOrFieldSupport(PropertySupport.instance(),
@@ -66,6 +81,21 @@ public class PropertyOrFieldSupport {
     // if input is an optional and name is "value", let's get the optional value directly
     if (input instanceof Optional && name.equals("value")) return ((Optional) input).orElse(null);
 
+    if (!name.isEmpty()) {
+      Accessor accessor = accessorFor(name, input.getClass());
+      Object value = accessor.read(input);
+      if (value != Accessor.UNREADABLE) return value;
+      // no property or field with the given name, a map value is looked up before reporting an error
+      if (accessor.isAbsent() && input instanceof Map) {
+        Map<?, ?> map = (Map<?, ?>) input;
+        if (map.containsKey(name)) return map.get(name);
+      }
+    }
+    // introspect again to report the same error as before, the getter could also have thrown an exception
+    return introspectSimpleValue(name, input);
+  }
+
+  private Object introspectSimpleValue(String name, Object input) {
     try {
       // try to get name as a property
       return propertySupport.propertyValueOf(name, Object.class, input);
@@ -99,6 +129,12 @@ public class PropertyOrFieldSupport {
     }
   }
 
+  private Accessor accessorFor(String name, Class<?> type) {
+    AccessorKey key = new AccessorKey(name, type, canExtractBareNamePropertyMethods(),
+                                      fieldSupport.isAllowedToUsePrivateFields());
+    return accessors.computeIfAbsent(key, Accessor::resolve);
+  }
+
   private String popNameFrom(String propertyOrFieldNameChain) {
     if (!isNested(propertyOrFieldNameChain)) return propertyOrFieldNameChain;
     return propertyOrFieldNameChain.substring(0, propertyOrFieldNameChain.indexOf(SEPARATOR));
@@ -115,4 +151,115 @@ public class PropertyOrFieldSupport {
            && !propertyOrFieldName.endsWith(SEPARATOR);
   }
 
+  /**
+   * Reads a property with its public getter and falls back to the field with the same name, the way
+   * {@link PropertySupport} and {@link FieldSupport} do for a given type.
+   */
+  private static final class Accessor {
+
+    private static final Object UNREADABLE = new Object();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final MethodHandle getter;
+    private final MethodHandle field;
+
+    private Accessor(MethodHandle getter, MethodHandle field) {
+      this.getter = getter;
+      this.field = field;
+    }
+
+    private static Accessor resolve(AccessorKey key) {
+      return new Accessor(getterHandle(key), fieldHandle(key));
+    }
+
+    private static MethodHandle getterHandle(AccessorKey key) {
+      Method getter = findGetter(key.name, key.type);
+      if (getter == null || !isPublic(getter.getModifiers())) return null;
+      try {
+        // force access for static class with public getter
+        getter.setAccessible(true);
+        return LOOKUP.unreflect(getter).asType(methodType(Object.class, Object.class));
+      } catch (Exception e) {
+        return null;
+      }
+    }
+
+    private static MethodHandle fieldHandle(AccessorKey key) {
+      try {
+        Field field = getReadableField(key.type, key.name, key.allowUsingPrivateFields);
+        MemberUtils.setAccessibleWorkaround(field);
+        return LOOKUP.unreflectGetter(field).asType(methodType(Object.class, Object.class));
+      } catch (Exception e) {
+        return null;
+      }
+    }
+
+    private boolean isAbsent() {
+      return getter == null && field == null;
+    }
+
+    /**
+     * Returns the value of the property or field in the given target or {@link #UNREADABLE} if neither could be read.
+     * <p>
+     * Errors thrown while reading are propagated as-is.
+     */
+    private Object read(Object target) {
+      if (getter != null) {
+        try {
+          return invoke(getter, target);
+        } catch (Exception getterInvocationError) {
+          // fall back to the field as when introspecting
+        }
+      }
+      if (field != null) {
+        try {
+          return invoke(field, target);
+        } catch (Exception fieldReadError) {
+          return UNREADABLE;
+        }
+      }
+      return UNREADABLE;
+    }
+
+    private static Object invoke(MethodHandle handle, Object target) throws Exception {
+      try {
+        return (Object) handle.invokeExact(target);
+      } catch (Error | Exception e) {
+        throw e;
+      } catch (Throwable throwable) {
+        throw new UndeclaredThrowableException(throwable);
+      }
+    }
+  }
+
+  private static final class AccessorKey {
+    private final String name;
+    private final Class<?> type;
+    private final boolean bareNamePropertyMethods;
+    private final boolean allowUsingPrivateFields;
+
+    private AccessorKey(String name, Class<?> type, boolean bareNamePropertyMethods, boolean allowUsingPrivateFields) {
+      this.name = name;
+      this.type = type;
+      this.bareNamePropertyMethods = bareNamePropertyMethods;
+      this.allowUsingPrivateFields = allowUsingPrivateFields;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      AccessorKey accessorKey = (AccessorKey) o;
+      return bareNamePropertyMethods == accessorKey.bareNamePropertyMethods
+             && allowUsingPrivateFields == accessorKey.allowUsingPrivateFields
+             && name.equals(accessorKey.name)
+             && type.equals(accessorKey.type);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, type, bareNamePropertyMethods, allowUsingPrivateFields);
+    }
+  }
+
 }
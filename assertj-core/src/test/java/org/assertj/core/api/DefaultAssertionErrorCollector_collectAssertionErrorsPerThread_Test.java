@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultAssertionErrorCollector_collectAssertionErrorsPerThread_Test {
+
+  private SoftAssertions softly;
+
+  @BeforeEach
+  void given() {
+    softly = new SoftAssertions();
+    softly.collectAssertionErrorsPerThread();
+  }
+
+  @Test
+  void should_collect_the_errors_of_all_threads() {
+    // WHEN
+    IntStream.range(0, 1_000).parallel().forEach(i -> softly.assertThat(i).isNegative());
+    // THEN
+    then(softly.assertionErrorsCollected()).hasSize(1_000);
+  }
+
+  @Test
+  void should_report_the_errors_by_thread_in_the_order_threads_collected_their_first_error() throws InterruptedException {
+    // GIVEN
+    softly.collectAssertionError(new AssertionError("main 1"));
+    // WHEN
+    runInAnotherThread(() -> {
+      softly.collectAssertionError(new AssertionError("other 1"));
+      softly.collectAssertionError(new AssertionError("other 2"));
+    });
+    softly.collectAssertionError(new AssertionError("main 2"));
+    // THEN
+    then(messagesOf(softly.assertionErrorsCollected())).containsExactly("main 1", "main 2", "other 1", "other 2");
+  }
+
+  @Test
+  void should_keep_the_errors_collected_before() {
+    // GIVEN
+    SoftAssertions softAssertions = new SoftAssertions();
+    softAssertions.collectAssertionError(new AssertionError("before"));
+    // WHEN
+    softAssertions.collectAssertionErrorsPerThread();
+    softAssertions.collectAssertionError(new AssertionError("after"));
+    // THEN
+    then(messagesOf(softAssertions.assertionErrorsCollected())).containsExactly("before", "after");
+    then(softAssertions.wasSuccess()).isFalse();
+  }
+
+  @Test
+  void should_return_the_success_of_the_last_assertion_of_the_current_thread() throws InterruptedException {
+    // GIVEN
+    List<Boolean> otherThreadSuccesses = new CopyOnWriteArrayList<>();
+    softly.assertThat(1).isNegative();
+    // WHEN
+    runInAnotherThread(() -> {
+      otherThreadSuccesses.add(softly.wasSuccess());
+      softly.assertThat(1).isPositive();
+      otherThreadSuccesses.add(softly.wasSuccess());
+      softly.assertThat(1).isNegative();
+      otherThreadSuccesses.add(softly.wasSuccess());
+    });
+    // THEN
+    then(softly.wasSuccess()).isFalse();
+    then(otherThreadSuccesses).containsExactly(true, true, false);
+  }
+
+  @Test
+  void should_call_the_callbacks_for_each_collected_error() {
+    // GIVEN
+    List<AssertionError> callbackErrors = new CopyOnWriteArrayList<>();
+    softly.addAfterAssertionErrorCollected(callbackErrors::add);
+    // WHEN
+    IntStream.range(0, 100).parallel().forEach(i -> softly.assertThat(i).isNegative());
+    // THEN
+    then(callbackErrors).hasSize(100);
+  }
+
+  // the collected errors messages end with the line of the test that collected them, only keep their first line
+  private static List<String> messagesOf(List<AssertionError> errors) {
+    return errors.stream().map(error -> error.getMessage().split("\\R")[0]).collect(toList());
+  }
+
+  private static void runInAnotherThread(Runnable runnable) throws InterruptedException {
+    Thread thread = new Thread(runnable);
+    thread.start();
+    thread.join();
+  }
+
+}
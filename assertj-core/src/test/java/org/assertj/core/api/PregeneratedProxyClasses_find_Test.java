@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.PregeneratedProxyClasses.ASSUMPTION_SUFFIX;
+import static org.assertj.core.api.PregeneratedProxyClasses.SOFT_PROXY_SUFFIX;
+
+import org.junit.jupiter.api.Test;
+
+class PregeneratedProxyClasses_find_Test {
+
+  @Test
+  void should_not_find_a_generated_class_for_an_assert_class_not_generated_at_build_time() {
+    // WHEN
+    Class<?> softProxyClass = PregeneratedProxyClasses.find(ConcreteAssert.class, SOFT_PROXY_SUFFIX);
+    Class<?> assumptionClass = PregeneratedProxyClasses.find(ConcreteAssert.class, ASSUMPTION_SUFFIX);
+    // THEN
+    assertThat(softProxyClass).isNull();
+    assertThat(assumptionClass).isNull();
+  }
+
+  @Test
+  void should_not_look_up_a_generated_class_for_a_class_outside_assertj() {
+    // WHEN
+    Class<?> softProxyClass = PregeneratedProxyClasses.find(String.class, SOFT_PROXY_SUFFIX);
+    // THEN
+    assertThat(softProxyClass).isNull();
+  }
+
+  @Test
+  void should_only_find_subclasses_of_the_assert_class() {
+    // WHEN
+    Class<? extends StringAssert> softProxyClass = PregeneratedProxyClasses.find(StringAssert.class, SOFT_PROXY_SUFFIX);
+    // THEN
+    // the proxy class is only generated and added to the test class path by the Maven build, not by IDEs
+    if (softProxyClass != null) assertThat(softProxyClass.getSuperclass()).isEqualTo(StringAssert.class);
+  }
+
+}
@@ -985,6 +985,18 @@ class SoftAssertionsTest extends BaseAssertionsTest {
     assertThat(softly.errorsCollected()).hasSize(16);
   }
 
+  @Test
+  void should_collect_errors_of_soft_assertions_made_in_another_thread() throws InterruptedException {
+    // GIVEN
+    Thread thread = new Thread(() -> softly.assertThat("Frodo").isEqualTo("Sam"));
+    // WHEN
+    thread.start();
+    thread.join();
+    softly.assertThat(true).isFalse();
+    // THEN
+    then(softly.errorsCollected()).hasSize(2);
+  }
+
   @Test
   void check_477_bugfix() {
     // GIVEN
@@ -13,6 +13,7 @@
 package org.assertj.core.api.date;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.registerCustomDateFormat;
@@ -31,8 +32,10 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.List;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.DateAssertBaseTest;
 import org.assertj.core.util.DateUtil;
@@ -280,4 +283,17 @@ class DateAssert_with_string_based_date_representation_Test extends DateAssertBa
     // THEN
     then(Date.from(Instant.parse("2024-03-01T00:00:00.000+00:00"))).as("In WET time zone").isEqualTo("2024-03-01");
   }
+
+  @Test
+  void should_parse_dates_with_default_date_formats_concurrently() {
+    // GIVEN
+    List<Date> dates = IntStream.range(0, 1_000)
+                                .mapToObj(i -> Date.from(Instant.parse("2024-03-01T00:00:00Z").plusSeconds(i * 3_661L)))
+                                .collect(toList());
+    // with the offset as local date times can be ambiguous when the default timezone leaves daylight saving time
+    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX");
+    List<String> datesAsString = dates.stream().map(dateFormat::format).collect(toList());
+    // WHEN/THEN
+    IntStream.range(0, 10_000).parallel().forEach(i -> assertThat(dates.get(i % 1_000)).isEqualTo(datesAsString.get(i % 1_000)));
+  }
 }
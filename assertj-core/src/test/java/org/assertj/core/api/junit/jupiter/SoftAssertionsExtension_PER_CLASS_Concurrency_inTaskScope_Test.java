@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.junit.jupiter;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.junit.jupiter.SoftAssertionsExtension.callableInTaskScope;
+import static org.assertj.core.api.junit.jupiter.SoftAssertionsExtension.inTaskScope;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.assertj.core.api.AssertionErrorCollector;
+import org.assertj.core.api.AutoCloseableSoftAssertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+@DisplayName("SoftAssertionsExtension PER_CLASS concurrent tasks test")
+public class SoftAssertionsExtension_PER_CLASS_Concurrency_inTaskScope_Test {
+
+  // The executor threads are started by the first test submitting tasks, they would report the errors of the other test to
+  // the first test collector if the collector was inherited from the thread that started them.
+  @Disabled("Run by the testkit")
+  @ExtendWith(SoftAssertionsExtension.class)
+  @ExtendWith(ExtensionInjector.class)
+  @Execution(ExecutionMode.CONCURRENT)
+  @TestInstance(Lifecycle.PER_CLASS)
+  static class ConcurrentTasksTest {
+
+    private static final int TASKS_COUNT = 100;
+
+    @InjectSoftAssertions
+    SoftAssertions softly;
+
+    static ExecutorService executor;
+    static Map<String, AssertionErrorCollector> map = Collections.synchronizedMap(new HashMap<>());
+    static Map<String, List<Boolean>> tasksSuccesses = Collections.synchronizedMap(new HashMap<>());
+
+    @BeforeAll
+    static void beforeAll() {
+      map.clear();
+      tasksSuccesses.clear();
+      executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void afterAll() {
+      executor.shutdown();
+    }
+
+    @BeforeEach
+    void beforeEach(ExtensionContext context) {
+      map.put(context.getTestMethod().get().getName(), SoftAssertionsExtension.getAssertionErrorCollector(context));
+    }
+
+    @Test
+    void test1() throws Exception {
+      runTasks("test1");
+    }
+
+    @Test
+    void test2() throws Exception {
+      runTasks("test2");
+    }
+
+    private void runTasks(String testName) throws Exception {
+      List<Future<Boolean>> futures = new ArrayList<>();
+      for (int i = 0; i < TASKS_COUNT; i++) {
+        futures.add(executor.submit(callableInTaskScope(softly, () -> {
+          softly.assertThat(testName + " task").isEmpty();
+          return softly.wasSuccess();
+        })));
+      }
+      List<Boolean> successes = new ArrayList<>();
+      for (Future<Boolean> future : futures) {
+        successes.add(future.get());
+      }
+      tasksSuccesses.put(testName, successes);
+    }
+  }
+
+  @Test
+  void tasks_errors_should_be_collected_by_the_test_that_created_the_tasks() {
+    EngineTestKit.engine("junit-jupiter")
+                 .selectors(selectClass(ConcurrentTasksTest.class))
+                 .configurationParameter("junit.jupiter.conditions.deactivate", "*")
+                 .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                 .execute()
+                 .testEvents()
+                 .assertStatistics(stats -> stats.started(2).succeeded(0).failed(2));
+
+    try (AutoCloseableSoftAssertions softly = new AutoCloseableSoftAssertions()) {
+      softly.assertThat(ConcurrentTasksTest.map.get("test1").assertionErrorsCollected())
+            .as("test1")
+            .hasSize(ConcurrentTasksTest.TASKS_COUNT)
+            .allSatisfy(error -> softly.assertThat(error).hasMessageContaining("test1 task"));
+      softly.assertThat(ConcurrentTasksTest.map.get("test2").assertionErrorsCollected())
+            .as("test2")
+            .hasSize(ConcurrentTasksTest.TASKS_COUNT)
+            .allSatisfy(error -> softly.assertThat(error).hasMessageContaining("test2 task"));
+      softly.assertThat(ConcurrentTasksTest.tasksSuccesses.get("test1")).as("test1 tasks successes").containsOnly(false);
+      softly.assertThat(ConcurrentTasksTest.tasksSuccesses.get("test2")).as("test2 tasks successes").containsOnly(false);
+    }
+  }
+
+  @Test
+  void should_return_the_task_as_is_for_soft_assertions_not_bound_to_test_threads() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    Runnable task = () -> softly.assertThat(1).isZero();
+    // WHEN
+    Runnable taskInScope = inTaskScope(softly, task);
+    // THEN
+    then(taskInScope).isSameAs(task);
+  }
+
+  @Test
+  void should_give_an_expression_lambda_as_a_runnable_that_can_be_executed() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    Executor executor = Runnable::run;
+    // WHEN
+    executor.execute(inTaskScope(softly, () -> softly.assertThat(1).isZero()));
+    // THEN
+    then(softly.errorsCollected()).hasSize(1);
+  }
+
+}
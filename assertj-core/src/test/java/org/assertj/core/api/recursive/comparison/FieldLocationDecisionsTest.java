@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.Decision.COMPARED_FIELD;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.Decision.IGNORED_FIELD;
+import static org.assertj.core.api.recursive.comparison.FieldLocationDecisions.NOT_MEMOIZED;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+class FieldLocationDecisionsTest {
+
+  private final FieldLocationDecisions fieldLocationDecisions = new FieldLocationDecisions();
+
+  @Test
+  void should_evaluate_rules_once_per_path_to_use_in_rules() {
+    // GIVEN
+    List<FieldLocation> evaluatedFieldLocations = new ArrayList<>();
+    Predicate<FieldLocation> rules = fieldLocation -> evaluatedFieldLocations.add(fieldLocation)
+                                                      && fieldLocation.getPathToUseInRules().endsWith("name");
+    FieldLocation firstFriendName = new FieldLocation(list("friends", "[0]", "name"));
+    FieldLocation secondFriendName = new FieldLocation(list("friends", "[1]", "name"));
+    FieldLocation friendAge = new FieldLocation(list("friends", "[1]", "age"));
+    // WHEN
+    boolean firstFriendNameDecision = fieldLocationDecisions.decide(IGNORED_FIELD, firstFriendName, rules);
+    boolean secondFriendNameDecision = fieldLocationDecisions.decide(IGNORED_FIELD, secondFriendName, rules);
+    boolean friendAgeDecision = fieldLocationDecisions.decide(IGNORED_FIELD, friendAge, rules);
+    // THEN
+    then(firstFriendNameDecision).isTrue();
+    then(secondFriendNameDecision).isTrue();
+    then(friendAgeDecision).isFalse();
+    then(evaluatedFieldLocations).containsExactly(firstFriendName, friendAge);
+  }
+
+  @Test
+  void should_memoize_each_decision_independently() {
+    // GIVEN
+    FieldLocation name = new FieldLocation("name");
+    fieldLocationDecisions.decide(IGNORED_FIELD, name, fieldLocation -> true);
+    // WHEN
+    boolean decision = fieldLocationDecisions.decide(COMPARED_FIELD, name, fieldLocation -> false);
+    // THEN
+    then(decision).isFalse();
+  }
+
+  @Test
+  void should_evaluate_ignored_types_rules_once_per_type() {
+    // GIVEN
+    List<Class<?>> evaluatedTypes = new ArrayList<>();
+    Predicate<Class<?>> rules = type -> evaluatedTypes.add(type) && type == String.class;
+    // WHEN
+    boolean stringDecision = fieldLocationDecisions.isIgnoredType(String.class, rules);
+    boolean integerDecision = fieldLocationDecisions.isIgnoredType(Integer.class, rules);
+    fieldLocationDecisions.isIgnoredType(String.class, rules);
+    // THEN
+    then(stringDecision).isTrue();
+    then(integerDecision).isFalse();
+    then(evaluatedTypes).containsExactly(String.class, Integer.class);
+  }
+
+  @Test
+  void should_evaluate_rules_each_time_when_not_memoized() {
+    // GIVEN
+    List<FieldLocation> evaluatedFieldLocations = new ArrayList<>();
+    Predicate<FieldLocation> rules = evaluatedFieldLocations::add;
+    FieldLocation name = new FieldLocation("name");
+    // WHEN
+    NOT_MEMOIZED.decide(IGNORED_FIELD, name, rules);
+    NOT_MEMOIZED.decide(IGNORED_FIELD, name, rules);
+    // THEN
+    then(evaluatedFieldLocations).containsExactly(name, name);
+  }
+
+}
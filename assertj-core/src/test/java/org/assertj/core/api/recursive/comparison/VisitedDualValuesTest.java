@@ -64,4 +64,54 @@ class VisitedDualValuesTest {
     // THEN
     then(optionalComparisonDifferences).isEmpty();
   }
+
+  @Test
+  void should_return_the_registered_differences_of_the_same_values_visited_at_another_location() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    DualValue dualValue = new DualValue(list("neighbour"), actual, expected);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    DualValue sameValues = new DualValue(list("neighbour", "neighbour"), actual, expected);
+    // WHEN
+    Optional<List<ComparisonDifference>> differences = visitedDualValues.registeredComparisonDifferencesOf(sameValues);
+    // THEN
+    then(differences).isPresent();
+    BDDAssertions.then(differences.get()).containsExactly(comparisonDifference);
+  }
+
+  @Test
+  void should_not_mix_dual_values_with_equal_but_not_same_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list(""), new StringBuilder("abc"), new StringBuilder("abc"));
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    DualValue otherDualValue = new DualValue(list(""), new StringBuilder("abc"), new StringBuilder("abc"));
+    // WHEN
+    Optional<List<ComparisonDifference>> differences = visitedDualValues.registeredComparisonDifferencesOf(otherDualValue);
+    // THEN
+    then(differences).isEmpty();
+  }
+
+  @Test
+  void should_only_register_tentative_dual_values_when_committed() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list("friend"), new Object(), new Object());
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    VisitedDualValues tentativeVisitedDualValues = visitedDualValues.tentativeVisitedDualValues();
+    DualValue tentativeDualValue = new DualValue(list("friend", "name"), new Object(), new Object());
+    tentativeVisitedDualValues.registerVisitedDualValue(tentativeDualValue);
+    // WHEN
+    Optional<List<ComparisonDifference>> differencesBeforeCommit = visitedDualValues.registeredComparisonDifferencesOf(tentativeDualValue);
+    tentativeVisitedDualValues.commit();
+    Optional<List<ComparisonDifference>> differencesAfterCommit = visitedDualValues.registeredComparisonDifferencesOf(tentativeDualValue);
+    // THEN
+    then(tentativeVisitedDualValues.registeredComparisonDifferencesOf(dualValue)).isPresent();
+    then(differencesBeforeCommit).isEmpty();
+    then(differencesAfterCommit).isPresent();
+  }
 }
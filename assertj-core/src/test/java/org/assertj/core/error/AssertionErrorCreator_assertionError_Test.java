@@ -18,6 +18,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import org.assertj.core.presentation.Representation;
 import org.junit.ComparisonFailure;
@@ -45,6 +47,24 @@ class AssertionErrorCreator_assertionError_Test {
     then(assertionFailedError.getExpected().getValue()).isSameAs(expected);
   }
 
+  @Test
+  void should_not_try_creating_ComparisonFailure_when_AssertionFailedError_could_be_created() throws Exception {
+    // GIVEN
+    String message = "error message";
+    Representation representation = mock(Representation.class);
+    ConstructorInvoker constructorInvoker = mock(ConstructorInvoker.class);
+    AssertionFailedError expectedFailure = new AssertionFailedError(message, "expected", "actual");
+    // @format:off
+    given(constructorInvoker.newInstance(eq(AssertionFailedError.class.getName()), any(Class[].class), any())).willReturn(expectedFailure);
+    // @format:on
+    assertionErrorCreator.constructorInvoker = constructorInvoker;
+    // WHEN
+    AssertionError assertionError = assertionErrorCreator.assertionError(message, "actual", "expected", representation);
+    // THEN
+    then(assertionError).isSameAs(expectedFailure);
+    verify(constructorInvoker, never()).newInstance(eq(ComparisonFailure.class.getName()), any(Class[].class), any());
+  }
+
   @Test
   void should_create_ComparisonFailure_when_AssertionFailedError_could_not_be_created() throws Exception {
     // GIVEN
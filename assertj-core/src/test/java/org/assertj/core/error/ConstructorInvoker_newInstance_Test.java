@@ -12,9 +12,12 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 
+import java.lang.reflect.InvocationTargetException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +43,48 @@ class ConstructorInvoker_newInstance_Test {
     then(o).asInstanceOf(THROWABLE)
            .hasMessage("Hi");
   }
+
+  @Test
+  void should_create_a_new_Object_on_each_call() throws Exception {
+    // WHEN
+    Object first = invoker.newInstance("java.lang.Exception", new Class<?>[] { String.class }, "Hi");
+    Object second = invoker.newInstance("java.lang.Exception", new Class<?>[] { String.class }, "Bye");
+    // THEN
+    then(first).isNotSameAs(second);
+    then(second).asInstanceOf(THROWABLE)
+                .hasMessage("Bye");
+  }
+
+  @Test
+  void should_fail_on_each_call_if_class_is_not_found() {
+    // WHEN
+    Throwable first = catchThrowable(() -> invoker.newInstance("org.unknown.Unknown", new Class<?>[] { String.class }, "Hi"));
+    Throwable second = catchThrowable(() -> invoker.newInstance("org.unknown.Unknown", new Class<?>[] { String.class }, "Hi"));
+    // THEN
+    then(first).isInstanceOf(ClassNotFoundException.class)
+               .hasMessage("org.unknown.Unknown");
+    then(second).isInstanceOf(ClassNotFoundException.class)
+                .isNotSameAs(first);
+  }
+
+  @Test
+  void should_fail_on_each_call_if_no_constructor_matches_given_parameter_types() {
+    // WHEN
+    Throwable first = catchThrowable(() -> invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class }, 1));
+    Throwable second = catchThrowable(() -> invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class }, 1));
+    // THEN
+    then(first).isInstanceOf(NoSuchMethodException.class)
+               .hasMessage("java.lang.Exception.<init>(java.lang.Integer)");
+    then(second).isInstanceOf(NoSuchMethodException.class)
+                .isNotSameAs(first);
+  }
+
+  @Test
+  void should_wrap_exception_thrown_by_constructor() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> invoker.newInstance("java.lang.Integer", new Class<?>[] { String.class }, "one"));
+    // THEN
+    then(thrown).isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(NumberFormatException.class);
+  }
 }
@@ -14,13 +14,20 @@ package org.assertj.core.error;
 
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.joining;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import org.assertj.core.description.TextDescription;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.util.diff.Delta;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -55,4 +62,22 @@ class ShouldHaveSameContent_create_Test {
     then(factory.create(new TextDescription("Test"), new StandardRepresentation())).isEqualTo(expectedErrorMessage);
   }
 
+  @Test
+  void should_create_error_message_telling_that_only_the_first_differences_are_shown() throws IOException {
+    // GIVEN
+    List<Delta<String>> diffs = new Diff().diff(linesStream(1001, "a"), linesStream(1001, "b"));
+    ErrorMessageFactory factory = shouldHaveSameContent(new ByteArrayInputStream(new byte[] { 'a' }),
+                                                        new ByteArrayInputStream(new byte[] { 'b' }),
+                                                        diffs);
+    // WHEN
+    String errorMessage = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(errorMessage).endsWith(format("%n%n(only the first 1000 differences are shown, the contents have more differences)"));
+  }
+
+  private static InputStream linesStream(int count, String line) {
+    String lines = IntStream.range(0, count).mapToObj(i -> line + i + "\ncommon" + i).collect(joining("\n"));
+    return new ByteArrayInputStream(lines.getBytes());
+  }
+
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.Files.newByteChannel;
+import static java.nio.file.Files.setLastModifiedTime;
+import static java.nio.file.Files.write;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.Digests.toHex;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link Digests#digestDiff(Path, java.nio.channels.ReadableByteChannel, MessageDigest, byte[])}</code>.
+ */
+class Digests_digestDiff_Path_Test {
+
+  private static final FileTime ONE_HOUR_AGO = FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS));
+
+  // files changed before the file systems time precision, their digest can be cached
+  @TempDir
+  static Path filesChangedBeforeTimePrecision;
+  private static Path unchanged;
+  private static Path changed;
+  private static Path rewritten;
+
+  @TempDir
+  Path tempDir;
+
+  private MessageDigest digest;
+  private Path actual;
+
+  @BeforeAll
+  static void setUpOnce() throws IOException, InterruptedException {
+    unchanged = write(filesChangedBeforeTimePrecision.resolve("unchanged"), "content".getBytes());
+    changed = write(filesChangedBeforeTimePrecision.resolve("changed"), "content".getBytes());
+    rewritten = write(filesChangedBeforeTimePrecision.resolve("rewritten"), "content".getBytes());
+    for (Path file : asList(unchanged, changed, rewritten)) {
+      setLastModifiedTime(file, ONE_HOUR_AGO);
+    }
+    // the last change time of a file can't be set, wait for it to be old enough
+    Thread.sleep(2100);
+  }
+
+  @BeforeEach
+  void setUp() throws NoSuchAlgorithmException, IOException {
+    digest = MessageDigest.getInstance("SHA-256");
+    actual = write(tempDir.resolve("actual"), "content".getBytes());
+  }
+
+  @Test
+  void should_compute_the_digest_of_the_file_content() throws Exception {
+    // GIVEN
+    byte[] expected = MessageDigest.getInstance("SHA-256").digest("content".getBytes());
+    // WHEN
+    DigestDiff diff = digestDiff(actual, expected);
+    // THEN
+    then(diff.digestsDiffer()).isFalse();
+    then(diff.getActual()).isEqualTo(toHex(expected));
+  }
+
+  @Test
+  void should_reuse_the_digest_of_an_unchanged_file() throws Exception {
+    // GIVEN
+    String actualDigest = digestDiff(unchanged, new byte[0]).getActual();
+    // WHEN
+    DigestDiff diff = Digests.digestDiff(unchanged, closedChannel(unchanged), digest, new byte[0]);
+    // THEN
+    then(diff.getActual()).isEqualTo(actualDigest);
+  }
+
+  @Test
+  void should_compute_the_digest_of_a_changed_file_again() throws Exception {
+    // GIVEN
+    String actualDigest = digestDiff(changed, new byte[0]).getActual();
+    write(changed, "CONTENT".getBytes());
+    setLastModifiedTime(changed, FileTime.from(ONE_HOUR_AGO.toInstant().plusSeconds(10)));
+    // WHEN
+    DigestDiff diff = digestDiff(changed, new byte[0]);
+    // THEN
+    then(diff.getActual()).isNotEqualTo(actualDigest);
+  }
+
+  @Test
+  void should_compute_the_digest_of_a_file_rewritten_with_the_same_size_and_last_modified_time_again() throws Exception {
+    // GIVEN
+    String actualDigest = digestDiff(rewritten, new byte[0]).getActual();
+    write(rewritten, "CONTENT".getBytes());
+    setLastModifiedTime(rewritten, ONE_HOUR_AGO);
+    // WHEN
+    DigestDiff diff = digestDiff(rewritten, new byte[0]);
+    // THEN
+    then(diff.getActual()).isNotEqualTo(actualDigest);
+  }
+
+  @Test
+  void should_not_reuse_the_digest_of_a_file_changed_within_the_file_systems_time_precision() throws Exception {
+    // GIVEN
+    setLastModifiedTime(actual, ONE_HOUR_AGO);
+    digestDiff(actual, new byte[0]);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> Digests.digestDiff(actual, closedChannel(actual), digest, new byte[0]));
+    // THEN
+    then(thrown).isInstanceOf(ClosedChannelException.class);
+  }
+
+  private DigestDiff digestDiff(Path file, byte[] expected) throws IOException {
+    try (SeekableByteChannel channel = newByteChannel(file)) {
+      return Digests.digestDiff(file, channel, digest, expected);
+    }
+  }
+
+  private static SeekableByteChannel closedChannel(Path file) throws IOException {
+    SeekableByteChannel channel = newByteChannel(file);
+    channel.close();
+    return channel;
+  }
+}
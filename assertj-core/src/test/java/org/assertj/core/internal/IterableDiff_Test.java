@@ -17,6 +17,8 @@ import static org.assertj.core.internal.IterableDiff.diff;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.sql.Timestamp;
+import java.util.Date;
 import java.util.List;
 
 import org.assertj.core.testkit.CaseInsensitiveStringComparator;
@@ -139,6 +141,78 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_report_differences_in_their_original_order() {
+    // GIVEN
+    actual = newArrayList("a", "x", "b", "y", "a");
+    expected = newArrayList("b", "z", "a", "w");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly("x", "y", "a");
+    assertThat(diff.missing).containsExactly("z", "w");
+  }
+
+  @Test
+  void should_report_difference_between_two_iterables_with_duplicate_elements_according_to_custom_comparison_strategy() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.INSTANCE);
+    actual = newArrayList("a", "A", "b");
+    expected = newArrayList("B", "b", "a");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly("A");
+    assertThat(diff.missing).containsExactly("b");
+  }
+
+  @Test
+  void should_not_report_any_differences_between_two_iterables_with_duplicate_elements_according_to_custom_comparison_strategy() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.INSTANCE);
+    actual = newArrayList("a", "B", "A", "b", "c");
+    expected = newArrayList("C", "b", "a", "A", "b");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_report_difference_between_two_iterables_with_elements_compared_by_content() {
+    // GIVEN
+    List<int[]> actual = newArrayList(new int[] { 1 }, new int[] { 2 }, new int[] { 2 });
+    List<int[]> expected = newArrayList(new int[] { 2 }, new int[] { 3 }, new int[] { 1 });
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly(actual.get(2));
+    assertThat(diff.missing).containsExactly(expected.get(1));
+  }
+
+  @Test
+  void should_compare_actual_elements_to_expected_ones_when_equals_is_not_symmetric() {
+    // GIVEN
+    List<Date> actual = newArrayList(new Date(1000), new Date(2000));
+    List<Date> expected = newArrayList(new Timestamp(2000), new Timestamp(1000));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_report_the_last_occurrences_of_duplicate_expected_elements_as_missing() {
+    // GIVEN
+    actual = newArrayList("b", "a");
+    expected = newArrayList("a", "b", "a", "c", "a");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).isEmpty();
+    assertThat(diff.missing).containsExactly("a", "c", "a");
+  }
+
   private class Foo {
   }
 
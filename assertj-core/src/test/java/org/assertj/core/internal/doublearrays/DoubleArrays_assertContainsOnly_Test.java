@@ -57,6 +57,21 @@ class DoubleArrays_assertContainsOnly_Test extends DoubleArraysBaseTest {
     arrays.assertContainsOnly(someInfo(), actual, arrayOf(6d, 8d, 10d, 6d, 8d, 10d));
   }
 
+  @Test
+  void should_pass_if_actual_contains_NaN_and_signed_zeros_given_only() {
+    actual = arrayOf(Double.NaN, -0d, 0d, Double.NaN);
+    arrays.assertContainsOnly(someInfo(), actual, arrayOf(0d, Double.NaN, -0d));
+  }
+
+  @Test
+  void should_fail_if_actual_contains_a_zero_of_the_other_sign() {
+    actual = arrayOf(6d, -0d);
+    double[] expected = { 6d, 0d };
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertContainsOnly(someInfo(), actual, expected))
+                                                   .withMessage(shouldContainOnly(actual, expected, newArrayList(0d),
+                                                                                  newArrayList(-0d)).create());
+  }
+
   @Test
   void should_pass_if_actual_and_given_values_are_empty() {
     actual = emptyArray();
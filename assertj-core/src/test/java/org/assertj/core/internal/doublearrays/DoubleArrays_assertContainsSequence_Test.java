@@ -19,9 +19,14 @@ import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
 import static org.assertj.core.testkit.DoubleArrays.arrayOf;
 import static org.assertj.core.testkit.DoubleArrays.emptyArray;
 import static org.assertj.core.testkit.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 
+import java.util.Comparator;
+
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.ComparatorFactory;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.DoubleArrays;
 import org.assertj.core.internal.DoubleArraysBaseTest;
 import org.junit.jupiter.api.Test;
@@ -156,4 +161,26 @@ class DoubleArrays_assertContainsSequence_Test extends DoubleArraysBaseTest {
   void should_pass_if_actual_and_sequence_are_equal_according_to_custom_comparison_strategy() {
     arraysWithCustomComparisonStrategy.assertContainsSequence(someInfo(), actual, arrayOf(6d, -8d, 10d, 12d));
   }
+
+  @Test
+  void should_fail_if_actual_only_contains_sequence_through_a_non_transitive_comparison_with_precision() {
+    // GIVEN
+    // 0.8 is close to 0.4 which is close to 0.0 but 0.8 is not close to 0.0
+    Comparator<Double> closeTo = ComparatorFactory.INSTANCE.doubleComparatorWithPrecision(0.5);
+    DoubleArrays arraysWithPrecision = new DoubleArrays(new ComparatorBasedComparisonStrategy(closeTo));
+    actual = arrayOf(0.0, 0.8, 0.4, 1.0);
+    double[] sequence = arrayOf(0.0, 0.4, 1.0);
+    // WHEN
+    expectAssertionError(() -> arraysWithPrecision.assertContainsSequence(someInfo(), actual, sequence));
+  }
+
+  @Test
+  void should_pass_if_actual_contains_sequence_according_to_a_comparison_with_precision() {
+    // GIVEN
+    Comparator<Double> closeTo = ComparatorFactory.INSTANCE.doubleComparatorWithPrecision(0.5);
+    DoubleArrays arraysWithPrecision = new DoubleArrays(new ComparatorBasedComparisonStrategy(closeTo));
+    actual = arrayOf(0.0, 0.8, 0.4, 0.1, 0.5, 1.0);
+    // WHEN/THEN
+    arraysWithPrecision.assertContainsSequence(someInfo(), actual, arrayOf(0.0, 0.4, 1.0));
+  }
 }
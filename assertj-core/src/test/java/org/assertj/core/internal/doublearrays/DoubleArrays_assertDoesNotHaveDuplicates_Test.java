@@ -38,6 +38,11 @@ class DoubleArrays_assertDoesNotHaveDuplicates_Test extends DoubleArraysBaseTest
     arrays.assertDoesNotHaveDuplicates(someInfo(), actual);
   }
 
+  @Test
+  void should_pass_if_actual_contains_zeros_of_both_signs() {
+    arrays.assertDoesNotHaveDuplicates(someInfo(), arrayOf(0d, -0d));
+  }
+
   @Test
   void should_pass_if_actual_is_empty() {
     arrays.assertDoesNotHaveDuplicates(someInfo(), emptyArray());
@@ -57,6 +62,14 @@ class DoubleArrays_assertDoesNotHaveDuplicates_Test extends DoubleArraysBaseTest
                                                                                         newLinkedHashSet(6d, 8d)).create());
   }
 
+  @Test
+  void should_fail_if_actual_contains_NaN_twice() {
+    actual = arrayOf(Double.NaN, 6d, Double.NaN);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertDoesNotHaveDuplicates(someInfo(), actual))
+                                                   .withMessage(shouldNotHaveDuplicates(actual,
+                                                                                        newLinkedHashSet(Double.NaN)).create());
+  }
+
   @Test
   void should_pass_if_actual_does_not_have_duplicates_according_to_custom_comparison_strategy() {
     arraysWithCustomComparisonStrategy.assertDoesNotHaveDuplicates(someInfo(), actual);
@@ -42,6 +42,18 @@ class DoubleArrays_assertIsSorted_Test extends DoubleArraysBaseTest {
     arrays.assertIsSorted(someInfo(), actual);
   }
 
+  @Test
+  void should_pass_if_actual_is_sorted_according_to_Double_natural_order() {
+    arrays.assertIsSorted(someInfo(), arrayOf(Double.NEGATIVE_INFINITY, -1.0, -0.0, 0.0, 1.0, Double.NaN));
+  }
+
+  @Test
+  void should_fail_if_negative_zero_follows_positive_zero() {
+    actual = arrayOf(-1.0, 0.0, -0.0);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertIsSorted(someInfo(), actual))
+                                                   .withMessage(shouldBeSorted(1, actual).create());
+  }
+
   @Test
   void should_pass_if_actual_is_empty() {
     arrays.assertIsSorted(someInfo(), emptyArray());
@@ -21,10 +21,15 @@ import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
 import static org.assertj.core.testkit.FloatArrays.arrayOf;
 import static org.assertj.core.testkit.FloatArrays.emptyArray;
 import static org.assertj.core.testkit.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.mockito.Mockito.verify;
 
+import java.util.Comparator;
+
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.ComparatorFactory;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.FloatArrays;
 import org.assertj.core.internal.FloatArraysBaseTest;
 import org.junit.jupiter.api.Test;
@@ -174,4 +179,16 @@ class FloatArrays_assertContainsSequence_Test extends FloatArraysBaseTest {
   void should_pass_if_actual_and_sequence_are_equal_according_to_custom_comparison_strategy() {
     arraysWithCustomComparisonStrategy.assertContainsSequence(someInfo(), actual, arrayOf(6f, -8f, 10f, 12f));
   }
+
+  @Test
+  void should_fail_if_actual_only_contains_sequence_through_a_non_transitive_comparison_with_precision() {
+    // GIVEN
+    // 0.8 is close to 0.4 which is close to 0.0 but 0.8 is not close to 0.0
+    Comparator<Float> closeTo = ComparatorFactory.INSTANCE.floatComparatorWithPrecision(0.5f);
+    FloatArrays arraysWithPrecision = new FloatArrays(new ComparatorBasedComparisonStrategy(closeTo));
+    actual = arrayOf(0.0f, 0.8f, 0.4f, 1.0f);
+    float[] sequence = arrayOf(0.0f, 0.4f, 1.0f);
+    // WHEN
+    expectAssertionError(() -> arraysWithPrecision.assertContainsSequence(someInfo(), actual, sequence));
+  }
 }
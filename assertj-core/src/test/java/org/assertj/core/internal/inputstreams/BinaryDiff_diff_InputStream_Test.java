@@ -81,6 +81,44 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_diff_if_inputstreams_differ_after_the_first_blocks() throws IOException {
+    byte[] content = new byte[100_000];
+    byte[] otherContent = content.clone();
+    otherContent[70_000] = (byte) 0xBE;
+    actual = new ByteArrayInputStream(content);
+    expected = new ByteArrayInputStream(otherContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.offset).isEqualTo(70_000);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("0xBE");
+  }
+
+  @Test
+  void should_return_no_diff_if_inputstreams_have_equal_content_read_in_small_chunks() throws IOException {
+    byte[] content = new byte[100_000];
+    content[99_999] = (byte) 0xCA;
+    actual = new SlowInputStream(content);
+    expected = new ByteArrayInputStream(content.clone());
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_actual_ends_on_a_block_boundary() throws IOException {
+    byte[] content = new byte[16_384];
+    byte[] longerContent = new byte[content.length + 1];
+    longerContent[content.length] = (byte) 0xBE;
+    actual = new ByteArrayInputStream(content);
+    expected = new SlowInputStream(longerContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.offset).isEqualTo(16_384);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0xBE");
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -88,4 +126,17 @@ class BinaryDiff_diff_InputStream_Test {
     }
     return new ByteArrayInputStream(byteContents);
   }
+
+  // gives at most 100 bytes at a time, as streams reading from the network may do
+  private static class SlowInputStream extends ByteArrayInputStream {
+
+    SlowInputStream(byte[] content) {
+      super(content);
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+      return super.read(b, off, Math.min(len, 100));
+    }
+  }
 }
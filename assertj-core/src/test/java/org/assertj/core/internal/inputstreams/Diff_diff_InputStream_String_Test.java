@@ -16,6 +16,7 @@ import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.inputstreams.Diff_diff_InputStream_Test.stream;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
@@ -126,6 +127,52 @@ class Diff_diff_InputStream_String_Test {
                                                 + "  [\"\"]%n"));
   }
 
+  @Test
+  void should_return_empty_diff_list_if_inputstreams_have_equal_lines_with_different_line_separators() throws IOException {
+    // GIVEN
+    actual = new ByteArrayInputStream("line0\r\nline1\nline2\r".getBytes());
+    expected = "line0\nline1\rline2";
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).isEmpty();
+  }
+
+  @Test
+  void should_return_diffs_if_inputstreams_differ_after_a_carriage_return() throws IOException {
+    // GIVEN
+    actual = new ByteArrayInputStream("line0\r\nline1".getBytes());
+    expected = "line0\rline_1";
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).singleElement().hasToString(format("Changed content at line 2:%n"
+                                                         + "expecting:%n"
+                                                         + "  [\"line_1\"]%n"
+                                                         + "but was:%n"
+                                                         + "  [\"line1\"]%n"));
+  }
+
+  @Test
+  void should_return_diffs_at_line_numbers_following_the_first_equal_blocks() throws IOException {
+    // GIVEN
+    String[] lines = new String[5000];
+    for (int i = 0; i < lines.length; i++) {
+      lines[i] = "line" + i;
+    }
+    expected = joinLines(lines);
+    lines[4000] = "line_4000";
+    actual = stream(lines);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).singleElement().hasToString(format("Changed content at line 4001:%n"
+                                                         + "expecting:%n"
+                                                         + "  [\"line4000\"]%n"
+                                                         + "but was:%n"
+                                                         + "  [\"line_4000\"]%n"));
+  }
+
   static String joinLines(String... lines) {
     return String.join(System.lineSeparator(), lines);
   }
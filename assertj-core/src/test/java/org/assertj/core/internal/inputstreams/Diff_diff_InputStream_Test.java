@@ -121,4 +121,38 @@ class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  void should_return_the_first_diffs_only_if_inputstreams_have_too_many_differences() throws IOException {
+    // GIVEN
+    actual = stream(linesWithChanges(1001, "actual"));
+    expected = stream(linesWithChanges(1001, "expected"));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(1000);
+    assertThat(Diff.isCapped(diffs)).isTrue();
+  }
+
+  @Test
+  void should_return_all_diffs_if_inputstreams_do_not_have_too_many_differences() throws IOException {
+    // GIVEN
+    actual = stream(linesWithChanges(1000, "actual"));
+    expected = stream(linesWithChanges(1000, "expected"));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(1000);
+    assertThat(Diff.isCapped(diffs)).isFalse();
+  }
+
+  // each changed line is followed by a common line
+  private static String[] linesWithChanges(int changes, String changedLine) {
+    String[] lines = new String[2 * changes];
+    for (int i = 0; i < changes; i++) {
+      lines[2 * i] = changedLine + i;
+      lines[2 * i + 1] = "common" + i;
+    }
+    return lines;
+  }
 }
@@ -109,6 +109,17 @@ class IntArrays_assertContainsSequence_Test extends IntArraysBaseTest {
     arrays.assertContainsSequence(someInfo(), actual, arrayOf(6, 8, 10, 12));
   }
 
+  @Test
+  void should_pass_if_actual_contains_sequence_overlapping_a_partial_match() {
+    actual = arrayOf(6, 6, 8, 6, 6, 8, 6, 6, 6, 8, 10);
+    arrays.assertContainsSequence(someInfo(), actual, arrayOf(6, 6, 8, 6, 6, 6, 8));
+  }
+
+  @Test
+  void should_pass_if_actual_contains_sequence_at_its_end() {
+    arrays.assertContainsSequence(someInfo(), actual, arrayOf(10, 12));
+  }
+
   @Test
   void should_fail_if_actual_is_null_whatever_custom_comparison_strategy_is() {
     assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arraysWithCustomComparisonStrategy.assertContainsSequence(someInfo(),
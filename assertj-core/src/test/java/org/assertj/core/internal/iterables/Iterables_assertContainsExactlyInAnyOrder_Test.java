@@ -26,7 +26,12 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.Date;
+
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.assertj.core.internal.StandardComparisonStrategy;
@@ -44,6 +49,13 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
     iterables.assertContainsExactlyInAnyOrder(someInfo(), actual, array("Luke", "Yoda", "Leia"));
   }
 
+  @Test
+  void should_pass_if_actual_elements_are_equal_to_given_values_but_not_the_other_way_around() {
+    // Date.equals accepts a Timestamp but Timestamp.equals does not accept a Date
+    iterables.assertContainsExactlyInAnyOrder(someInfo(), newArrayList(new Date(1000), new Date(2000)),
+                                              array(new Timestamp(2000), new Timestamp(1000)));
+  }
+
   @Test
   void should_pass_if_actual_contains_given_values_exactly_with_null_elements() {
     iterables.assertContainsExactlyInAnyOrder(someInfo(), actual, array("Leia", "Yoda", "Luke"));
@@ -171,4 +183,28 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
                                                                   comparisonStrategy));
   }
 
+  @Test
+  void should_report_unmatched_duplicates_in_their_original_order_according_to_custom_comparison_strategy() {
+    // GIVEN
+    actual = newArrayList("Luke", "LEIA", "luke", "Yoda", "LUKE");
+    Object[] expected = { "leia", "LUKE", "Han", "han" };
+    // WHEN
+    catchThrowable(() -> iterablesWithCaseInsensitiveComparisonStrategy.assertContainsExactlyInAnyOrder(info, actual, expected));
+    // THEN
+    verify(failures).failure(info, shouldContainExactlyInAnyOrder(actual, expected, newArrayList("Han", "han"),
+                                                                  newArrayList("luke", "Yoda", "LUKE"), comparisonStrategy));
+  }
+
+  @Test
+  void should_pass_if_comparator_can_only_compare_values_of_the_same_type() {
+    // GIVEN
+    Comparator<Object> sameTypeComparator = (o1, o2) -> {
+      if (o1.getClass() != o2.getClass()) throw new IllegalArgumentException("can't compare " + o1 + " to " + o2);
+      return o1.toString().compareTo(o2.toString());
+    };
+    Iterables iterablesWithSameTypeComparator = new Iterables(new ComparatorBasedComparisonStrategy(sameTypeComparator));
+    // WHEN/THEN
+    iterablesWithSameTypeComparator.assertContainsExactlyInAnyOrder(info, newArrayList(1, "Luke"), array(1, "Luke"));
+  }
+
 }
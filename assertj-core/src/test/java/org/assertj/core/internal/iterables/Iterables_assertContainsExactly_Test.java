@@ -30,6 +30,8 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.list;
 import static org.mockito.Mockito.verify;
 
+import java.sql.Timestamp;
+import java.util.Date;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -51,6 +53,12 @@ class Iterables_assertContainsExactly_Test extends IterablesBaseTest {
     iterables.assertContainsExactly(INFO, actual, array("Luke", "Yoda", "Leia"));
   }
 
+  @Test
+  void should_pass_if_actual_elements_are_equal_to_given_values_but_not_the_other_way_around() {
+    // Date.equals accepts a Timestamp but Timestamp.equals does not accept a Date
+    iterables.assertContainsExactly(INFO, list(new Date(1000), new Date(2000)), array(new Timestamp(1000), new Timestamp(2000)));
+  }
+
   @Test
   void should_pass_if_non_restartable_actual_contains_exactly_given_values() {
     iterables.assertContainsExactly(INFO, createSinglyIterable(actual), array("Luke", "Yoda", "Leia"));
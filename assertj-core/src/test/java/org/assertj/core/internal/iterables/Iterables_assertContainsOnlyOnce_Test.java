@@ -22,14 +22,18 @@ import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
 import static org.assertj.core.testkit.ObjectArrays.emptyArray;
 import static org.assertj.core.testkit.TestData.someInfo;
 import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.mockito.Mockito.verify;
 
 import java.awt.*;
+import java.util.Comparator;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.jupiter.api.Test;
@@ -197,4 +201,15 @@ class Iterables_assertContainsOnlyOnce_Test extends IterablesBaseTest {
                                                     comparisonStrategy));
   }
 
+  @Test
+  void should_fail_if_actual_contains_given_values_more_than_once_according_to_a_comparator_not_imposing_an_ordering() {
+    // GIVEN
+    // this comparator only tells whether elements are equal, sorting the elements does not group the equal ones together
+    Comparator<Object> equalsComparator = (a, b) -> a.equals(b) ? 0 : 1;
+    Iterables iterablesWithEqualsComparator = new Iterables(new ComparatorBasedComparisonStrategy(equalsComparator));
+    List<String> values = newArrayList("x", "y", "x");
+    // WHEN
+    expectAssertionError(() -> iterablesWithEqualsComparator.assertContainsOnlyOnce(someInfo(), values, array("x")));
+  }
+
 }
@@ -27,6 +27,7 @@ import static org.assertj.core.util.Lists.list;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
@@ -147,6 +148,36 @@ class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldContainOnly(actual, expected, list("Obiwan"), emptyList()));
   }
 
+  @Test
+  void should_report_missing_and_unexpected_elements_in_their_original_order() {
+    // GIVEN
+    actual.addAll(list("Leia", "Yoda"));
+    Object[] expected = { "Han", "Luke", "Obiwan", "Han" };
+    // WHEN
+    expectAssertionError(() -> iterables.assertContainsOnly(info, actual, expected));
+    // THEN
+    verify(failures).failure(info, shouldContainOnly(actual, expected, list("Han", "Obiwan", "Han"),
+                                                     list("Yoda", "Leia", "Leia", "Yoda")));
+  }
+
+  @Test
+  void should_pass_if_actual_contains_given_arrays_only_compared_by_content() {
+    // GIVEN
+    List<int[]> actual = list(new int[] { 1, 2 }, new int[] { 3 }, new int[] { 1, 2 });
+    Object[] expected = array(new int[] { 3 }, new int[] { 1, 2 });
+    // WHEN/THEN
+    iterables.assertContainsOnly(info, actual, expected);
+  }
+
+  @Test
+  void should_pass_if_actual_contains_given_values_only_overriding_equals_but_not_hashCode() {
+    // GIVEN
+    List<Name> actual = list(new Name("Luke"), new Name("Yoda"), new Name("Luke"));
+    Object[] expected = array(new Name("Yoda"), new Name("Luke"));
+    // WHEN/THEN
+    iterables.assertContainsOnly(info, actual, expected);
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -188,4 +219,18 @@ class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
   void should_pass_if_nonrestartable_actual_contains_only_given_values() {
     iterables.assertContainsOnly(someInfo(), createSinglyIterable(actual), array("Luke", "Yoda", "Leia"));
   }
+
+  // equal names have different hash codes
+  private static class Name {
+    private final String value;
+
+    private Name(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Name && ((Name) obj).value.equals(value);
+    }
+  }
 }
@@ -27,8 +27,11 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -135,6 +138,12 @@ class Iterables_assertContainsSequence_Test extends IterablesBaseTest {
     iterables.assertContainsSequence(someInfo(), actual, array("a", "-", "b", "-", "c"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_sequence_overlapping_a_partial_sequence() {
+    actual = newArrayList("Luke", "Luke", "Leia", "Luke", "Luke", "Luke", "Leia", "Yoda");
+    iterables.assertContainsSequence(someInfo(), actual, array("Luke", "Luke", "Leia", "Yoda"));
+  }
+
   @Test
   void should_pass_if_actual_is_an_infinite_sequence_and_contains_sequence() {
     Iterable<String> actual = com.google.common.collect.Iterables.cycle("Leia", "Luke", "Yoda", "Obi-Wan");
@@ -188,4 +197,28 @@ class Iterables_assertContainsSequence_Test extends IterablesBaseTest {
                                                                           array("YODA", "luke", "lEIA", "Obi-wan"));
   }
 
+  @Test
+  void should_fail_if_actual_only_contains_sequence_through_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    // 0.8 is close to 0.4 which is close to 0.0 but 0.8 is not close to 0.0
+    Comparator<Double> closeTo = (x, y) -> Math.abs(x - y) <= 0.5 ? 0 : Double.compare(x, y);
+    Iterables iterablesWithTolerance = new Iterables(new ComparatorBasedComparisonStrategy(closeTo));
+    List<Double> actual = list(0.0, 0.8, 0.4, 1.0);
+    Object[] sequence = array(0.0, 0.4, 1.0);
+    // WHEN
+    Throwable error = catchThrowable(() -> iterablesWithTolerance.assertContainsSequence(someInfo(), actual, sequence));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  void should_pass_if_actual_contains_sequence_according_to_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    Comparator<Double> closeTo = (x, y) -> Math.abs(x - y) <= 0.5 ? 0 : Double.compare(x, y);
+    Iterables iterablesWithTolerance = new Iterables(new ComparatorBasedComparisonStrategy(closeTo));
+    List<Double> actual = list(0.0, 0.8, 0.4, 0.1, 0.5, 1.0);
+    // WHEN/THEN
+    iterablesWithTolerance.assertContainsSequence(someInfo(), actual, array(0.0, 0.4, 1.0));
+  }
+
 }
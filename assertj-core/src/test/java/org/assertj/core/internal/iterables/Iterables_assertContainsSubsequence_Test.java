@@ -78,6 +78,14 @@ class Iterables_assertContainsSubsequence_Test extends IterablesBaseTest {
     iterables.assertContainsSubsequence(INFO, actual, array("Yoda", "Luke", "Obi-Wan"));
   }
 
+  @Test
+  void should_pass_if_actual_is_a_singly_traversable_sequence_and_contains_subsequence() {
+    // GIVEN
+    Iterable<String> actual = SinglyIterableFactory.createSinglyIterable(list("Yoda", "Luke", "Leia", "Obi-Wan"));
+    // WHEN/THEN
+    iterables.assertContainsSubsequence(INFO, actual, array("Yoda", "Leia"));
+  }
+
   @Test
   void should_pass_if_actual_and_given_values_are_empty() {
     actual.clear();
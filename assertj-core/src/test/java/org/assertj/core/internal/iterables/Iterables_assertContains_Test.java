@@ -29,6 +29,7 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.set;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -155,6 +156,9 @@ class Iterables_assertContains_Test extends IterablesBaseTest {
                      arguments(list("Luke", "Yoda", "Leia"),
                                array("Han", "Luke"),
                                set("Han")),
+                     arguments(list("Luke", "Yoda", "Leia"),
+                               array("Han", "Luke", "Obiwan", "Han"),
+                               set("Han", "Obiwan")),
                      arguments(Sets.union(singleton("Luke"), singleton("Yoda")),
                                array("Han", "Luke"),
                                set("Han")));
@@ -166,4 +170,36 @@ class Iterables_assertContains_Test extends IterablesBaseTest {
                                set("Han")));
   }
 
+  @Test
+  void should_pass_if_actual_contains_given_arrays_compared_by_content() {
+    // GIVEN
+    List<int[]> actual = list(new int[] { 1, 2 }, new int[] { 3, 4 }, new int[] { 5 });
+    Object[] values = array(new int[] { 5 }, new int[] { 1, 2 });
+    // WHEN/THEN
+    iterables.assertContains(info, actual, values);
+  }
+
+  @Test
+  void should_pass_if_actual_contains_given_values_overriding_equals_but_not_hashCode() {
+    // GIVEN
+    List<Name> actual = list(new Name("Luke"), new Name("Yoda"), new Name("Leia"));
+    Object[] values = array(new Name("Leia"), new Name("Luke"));
+    // WHEN/THEN
+    iterables.assertContains(info, actual, values);
+  }
+
+  // equal names have different hash codes
+  private static class Name {
+    private final String value;
+
+    private Name(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Name && ((Name) obj).value.equals(value);
+    }
+  }
+
 }
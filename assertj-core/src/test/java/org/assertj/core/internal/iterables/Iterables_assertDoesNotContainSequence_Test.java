@@ -24,10 +24,15 @@ import static org.assertj.core.testkit.ObjectArrays.emptyArray;
 import static org.assertj.core.testkit.TestData.someInfo;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.util.Comparator;
+import java.util.List;
+
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -136,6 +141,24 @@ class Iterables_assertDoesNotContainSequence_Test extends IterablesBaseTest {
     verifyFailureThrownWhenSequenceNotFound(info, sequence, 0);
   }
 
+  @Test
+  void should_fail_if_actual_contains_sequence_overlapping_a_partial_sequence() {
+    AssertionInfo info = someInfo();
+    actual = newArrayList("Luke", "Luke", "Luke", "Leia");
+    Object[] sequence = { "Luke", "Luke", "Leia" };
+
+    Throwable error = catchThrowable(() -> iterables.assertDoesNotContainSequence(info, actual, sequence));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verifyFailureThrownWhenSequenceNotFound(info, sequence, 1);
+  }
+
+  @Test
+  void should_pass_if_actual_is_a_singly_traversable_sequence_and_does_not_contain_sequence() {
+    Iterable<String> actual = SinglyIterableFactory.createSinglyIterable(newArrayList("Yoda", "Luke", "Leia", "Obi-Wan"));
+    iterables.assertDoesNotContainSequence(someInfo(), actual, array("Luke", "Obi-Wan"));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -184,4 +207,15 @@ class Iterables_assertDoesNotContainSequence_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldNotContainSequence(actual, sequence, index));
   }
 
+  @Test
+  void should_pass_if_actual_only_contains_sequence_through_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    // 0.8 is close to 0.4 which is close to 0.0 but 0.8 is not close to 0.0
+    Comparator<Double> closeTo = (x, y) -> Math.abs(x - y) <= 0.5 ? 0 : Double.compare(x, y);
+    Iterables iterablesWithTolerance = new Iterables(new ComparatorBasedComparisonStrategy(closeTo));
+    List<Double> actual = list(0.0, 0.8, 0.4, 1.0);
+    // WHEN/THEN
+    iterablesWithTolerance.assertDoesNotContainSequence(someInfo(), actual, array(0.0, 0.4, 1.0));
+  }
+
 }
@@ -111,6 +111,12 @@ class Iterables_assertDoesNotContainSubsequence_Test extends IterablesBaseTest {
     expectFailure(iterables, actual, subsequence, 0);
   }
 
+  @Test
+  void should_pass_if_actual_is_a_singly_traversable_sequence_and_does_not_contain_subsequence() {
+    Iterable<String> actual = SinglyIterableFactory.createSinglyIterable(newArrayList("Yoda", "Luke", "Leia", "Obi-Wan"));
+    iterables.assertDoesNotContainSubsequence(someInfo(), actual, array("Leia", "Luke"));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -25,6 +25,9 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.sql.Timestamp;
+import java.util.Date;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.ObjectArraysBaseTest;
@@ -43,6 +46,13 @@ class ObjectArrays_assertContainsExactlyInAnyOrder_Test extends ObjectArraysBase
     arrays.assertContainsExactlyInAnyOrder(someInfo(), actual, array("Leia", "Yoda", "Luke"));
   }
 
+  @Test
+  void should_pass_if_actual_elements_are_equal_to_given_values_but_not_the_other_way_around() {
+    // Date.equals accepts a Timestamp but Timestamp.equals does not accept a Date
+    arrays.assertContainsExactlyInAnyOrder(someInfo(), array(new Date(1000), new Date(2000)),
+                                           array(new Timestamp(2000), new Timestamp(1000)));
+  }
+
   @Test
   void should_pass_if_actual_contains_given_values_exactly_in_any_order_with_null_elements() {
     actual = array("Luke", "Yoda", "Leia", null);
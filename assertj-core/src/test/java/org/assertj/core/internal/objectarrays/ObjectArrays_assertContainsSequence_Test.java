@@ -21,10 +21,15 @@ import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
 import static org.assertj.core.testkit.ObjectArrays.emptyArray;
 import static org.assertj.core.testkit.TestData.someInfo;
 import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.mockito.Mockito.verify;
 
+import java.util.Comparator;
+
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.ComparatorFactory;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.ObjectArrays;
 import org.assertj.core.internal.ObjectArraysBaseTest;
 import org.junit.jupiter.api.Test;
@@ -182,8 +187,26 @@ class ObjectArrays_assertContainsSequence_Test extends ObjectArraysBaseTest {
     arraysWithCustomComparisonStrategy.assertContainsSequence(someInfo(), actual, array("LUKE", "LeiA"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_sequence_overlapping_a_partial_match_according_to_custom_comparison_strategy() {
+    actual = array("Yoda", "Yoda", "Luke", "Yoda", "Yoda", "Yoda", "Luke", "Leia");
+    arraysWithCustomComparisonStrategy.assertContainsSequence(someInfo(), actual, array("YODA", "yoda", "LUKE", "leia"));
+  }
+
   @Test
   void should_pass_if_actual_and_sequence_are_equal_according_to_custom_comparison_strategy() {
     arraysWithCustomComparisonStrategy.assertContainsSequence(someInfo(), actual, array("YOda", "LUKE", "LeiA", "Obi-WAn"));
   }
+
+  @Test
+  void should_fail_if_actual_only_contains_sequence_through_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    // 0.8 is close to 0.4 which is close to 0.0 but 0.8 is not close to 0.0
+    Comparator<Double> closeTo = ComparatorFactory.INSTANCE.doubleComparatorWithPrecision(0.5);
+    ObjectArrays arraysWithPrecision = new ObjectArrays(new ComparatorBasedComparisonStrategy(closeTo));
+    Double[] values = array(0.0, 0.8, 0.4, 1.0);
+    Double[] sequence = array(0.0, 0.4, 1.0);
+    // WHEN
+    expectAssertionError(() -> arraysWithPrecision.assertContainsSequence(someInfo(), values, sequence));
+  }
 }
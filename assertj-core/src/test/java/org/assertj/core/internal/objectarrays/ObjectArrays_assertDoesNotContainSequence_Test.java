@@ -24,7 +24,11 @@ import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.mockito.Mockito.verify;
 
+import java.util.Comparator;
+
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.ComparatorFactory;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.ObjectArrays;
 import org.assertj.core.internal.ObjectArraysBaseTest;
 import org.junit.jupiter.api.Test;
@@ -76,6 +80,18 @@ class ObjectArrays_assertDoesNotContainSequence_Test extends ObjectArraysBaseTes
     verify(failures).failure(info, shouldNotContainSequence(actual, sequence, 3));
   }
 
+  @Test
+  void should_fail_if_actual_contains_sequence_overlapping_a_partial_match() {
+    AssertionInfo info = someInfo();
+    actual = array("Yoda", "Yoda", "Luke", "Yoda", "Yoda", "Yoda", "Luke", "Leia");
+    Object[] sequence = array("Yoda", "Yoda", "Luke", "Leia");
+
+    Throwable error = catchThrowable(() -> arrays.assertDoesNotContainSequence(info, actual, sequence));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldNotContainSequence(actual, sequence, 4));
+  }
+
   @Test
   void should_pass_if_actual_and_given_values_are_empty() {
     actual = new String[0];
@@ -182,4 +198,15 @@ class ObjectArrays_assertDoesNotContainSequence_Test extends ObjectArraysBaseTes
     verify(failures).failure(info, shouldNotContainSequence(actual, sequence, 0,
                                                             caseInsensitiveStringComparisonStrategy));
   }
+
+  @Test
+  void should_pass_if_actual_only_contains_sequence_through_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    // 0.8 is close to 0.4 which is close to 0.0 but 0.8 is not close to 0.0
+    Comparator<Double> closeTo = ComparatorFactory.INSTANCE.doubleComparatorWithPrecision(0.5);
+    ObjectArrays arraysWithPrecision = new ObjectArrays(new ComparatorBasedComparisonStrategy(closeTo));
+    Double[] values = array(0.0, 0.8, 0.4, 1.0);
+    // WHEN/THEN
+    arraysWithPrecision.assertDoesNotContainSequence(someInfo(), values, array(0.0, 0.4, 1.0));
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(Path, Path)}</code>.
+ */
+class BinaryDiff_diff_Path_Path_Test {
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_return_no_diff_if_paths_have_equal_content() throws IOException {
+    // GIVEN
+    byte[] content = new byte[100_000];
+    Path actual = Files.write(tempDir.resolve("actual"), content);
+    Path expected = Files.write(tempDir.resolve("expected"), content);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_no_diff_if_paths_locate_the_same_file() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), new byte[] { 1, 2, 3 });
+    Path expected = tempDir.resolve("..").resolve(tempDir.getFileName()).resolve("actual");
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_paths_differ_after_the_first_blocks() throws IOException {
+    // GIVEN
+    byte[] content = new byte[100_000];
+    Path actual = Files.write(tempDir.resolve("actual"), content);
+    content[99_999] = (byte) 0xCA;
+    Path expected = Files.write(tempDir.resolve("expected"), content);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(99_999);
+    then(result.actual).isEqualTo("0x0");
+    then(result.expected).isEqualTo("0xCA");
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_shorter() throws IOException {
+    // GIVEN
+    byte[] content = new byte[100_000];
+    Path actual = Files.write(tempDir.resolve("actual"), content);
+    Path expected = Files.write(tempDir.resolve("expected"), new byte[50_000]);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(50_000);
+    then(result.actual).isEqualTo("0x0");
+    then(result.expected).isEqualTo("EOF");
+  }
+
+}
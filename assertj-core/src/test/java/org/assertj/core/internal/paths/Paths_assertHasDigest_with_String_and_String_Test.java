@@ -141,7 +141,7 @@ class Paths_assertHasDigest_with_String_and_String_Test extends PathsBaseTest {
     String algorithm = "MD5";
     String expected = "";
     IOException cause = new IOException("boom!");
-    willThrow(cause).given(nioFilesWrapper).newInputStream(actual);
+    willThrow(cause).given(nioFilesWrapper).newByteChannel(actual);
     // WHEN
     Throwable thrown = catchThrowable(() -> underTest.assertHasDigest(INFO, actual, algorithm, expected));
     // THEN
@@ -67,6 +67,21 @@ class Strings_assertContainsIgnoringCase_Test extends StringsBaseTest {
     strings.assertContainsIgnoringCase(someInfo(), "Yoda", "yo");
   }
 
+  @Test
+  void should_pass_if_actual_is_a_StringBuilder_containing_sequence_in_different_case() {
+    // WHEN/THEN
+    strings.assertContainsIgnoringCase(someInfo(), new StringBuilder("Yoda"), new StringBuilder("OD"));
+  }
+
+  @Test
+  void should_pass_if_actual_lower_case_contains_sequence_lower_case_with_a_final_sigma() {
+    // GIVEN
+    String actual = "\u039F\u0394\u039F\u03A3"; // lower cased to a final sigma
+    String sequence = "\u03BF\u03C2";
+    // WHEN/THEN
+    strings.assertContainsIgnoringCase(someInfo(), actual, sequence);
+  }
+
   @Test
   void should_fail_if_actual_does_not_contain_sequence_whatever_custom_comparison_strategy_is() {
     // WHEN
@@ -83,6 +83,22 @@ class Strings_assertEndsWithIgnoringCase_Test extends StringsBaseTest {
     then(assertionError).hasMessage(shouldEndWithIgnoringCase("Yoda", "Luke", hashCodeComparisonStrategy).create());
   }
 
+  @Test
+  void should_pass_if_actual_is_a_StringBuilder_ending_with_suffix_in_different_case() {
+    // WHEN/THEN
+    strings.assertEndsWithIgnoringCase(someInfo(), new StringBuilder("Yoda"), "DA");
+  }
+
+  @Test
+  void should_fail_if_actual_is_a_StringBuilder_shorter_than_suffix() {
+    // GIVEN
+    StringBuilder actual = new StringBuilder("da");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> strings.assertEndsWithIgnoringCase(someInfo(), actual, "YODA"));
+    // THEN
+    then(assertionError).hasMessage(shouldEndWithIgnoringCase(actual, "YODA", StandardComparisonStrategy.instance()).create());
+  }
+
   @Test
   @DefaultLocale("tr-TR")
   void should_pass_with_Turkish_default_locale() {
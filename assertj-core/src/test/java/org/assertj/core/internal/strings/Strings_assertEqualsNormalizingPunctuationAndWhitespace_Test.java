@@ -58,6 +58,12 @@ class Strings_assertEqualsNormalizingPunctuationAndWhitespace_Test extends Strin
     verify(failures).failure(info, shouldBeEqualNormalizingPunctuationAndWhitespace(actual, expected), "GameofThrones", expected);
   }
 
+  @Test
+  void should_pass_if_both_StringBuilders_are_equal_normalizing_punctuation_and_whitespace() {
+    strings.assertEqualsNormalizingPunctuationAndWhitespace(someInfo(), new StringBuilder("{Game} of} Thrones{)"),
+                                                            new StringBuilder("Game   of   Thrones"));
+  }
+
   @ParameterizedTest
   @MethodSource("equalNormalizingPunctuationAndWhitespaceGenerator")
   void should_pass_if_both_Strings_are_equal_normalizing_punctuation_and_whitespace(String actual, String expected) {
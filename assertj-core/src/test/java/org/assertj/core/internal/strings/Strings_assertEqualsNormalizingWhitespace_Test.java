@@ -63,6 +63,11 @@ class Strings_assertEqualsNormalizingWhitespace_Test extends StringsBaseTest {
                                                                                                           "Luke").create()));
   }
 
+  @Test
+  void should_pass_if_both_StringBuilders_are_equal_after_whitespace_is_normalized() {
+    strings.assertEqualsNormalizingWhitespace(someInfo(), new StringBuilder(" my\t foo\nbar "), new StringBuilder("my foo bar"));
+  }
+
   @ParameterizedTest
   @MethodSource("equalNormalizingWhitespaceGenerator")
   void should_pass_if_both_Strings_are_equal_after_whitespace_is_normalized(String actual, String expected) {
@@ -82,7 +87,9 @@ class Strings_assertEqualsNormalizingWhitespace_Test extends StringsBaseTest {
                                                      arguments(" my\tfoo bar ", " my\tfoo bar "),   // same
                                                      arguments(null, null),   // null
                                                      arguments(" \t \t", " "),
-                                                     arguments(" abc", "abc "));
+                                                     arguments(" abc", "abc "),
+                                                     // control chars are trimmed
+                                                     arguments("\u0001my foo bar \u0002", "my foo bar"));
 
     Stream<Arguments> nonBreakingSpaces = NON_BREAKING_SPACES.stream()
                                                              .map(nonBreakingSpace -> arguments("my" + nonBreakingSpace
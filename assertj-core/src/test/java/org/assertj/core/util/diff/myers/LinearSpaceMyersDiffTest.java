@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  @Test
+  void should_find_no_delta_in_equal_lists() {
+    // GIVEN
+    List<String> original = newArrayList("aaa", "bbb", "ccc");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, newArrayList("aaa", "bbb", "ccc"));
+    // THEN
+    assertThat(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_find_insert_delta() {
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(newArrayList("hhh"), newArrayList("hhh", "jjj", "kkk"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new InsertDelta<>(new Chunk<>(1, emptyList()),
+                                                                    new Chunk<>(1, newArrayList("jjj", "kkk"))));
+  }
+
+  @Test
+  void should_find_delete_delta() {
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(newArrayList("ddd", "fff", "ggg"), newArrayList("ggg"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new DeleteDelta<>(new Chunk<>(0, newArrayList("ddd", "fff")),
+                                                                    new Chunk<>(0, emptyList())));
+  }
+
+  @Test
+  void should_find_change_deltas() {
+    // GIVEN
+    List<String> original = newArrayList("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = newArrayList("aaa", "zzz", "ccc", "ddd", "yyy", "xxx");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, newArrayList("bbb")),
+                                                                    new Chunk<>(1, newArrayList("zzz"))),
+                                                  new ChangeDelta<>(new Chunk<>(4, newArrayList("eee")),
+                                                                    new Chunk<>(4, newArrayList("yyy", "xxx"))));
+  }
+
+  @Test
+  void should_compare_null_elements() {
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(newArrayList(null, "aaa", null),
+                                                                   newArrayList(null, "bbb", null));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, newArrayList("aaa")),
+                                                                    new Chunk<>(1, newArrayList("bbb"))));
+  }
+
+  @Test
+  void should_find_as_many_differences_as_MyersDiff() {
+    Random random = new Random(0);
+    for (int i = 0; i < 1000; i++) {
+      // GIVEN
+      List<Integer> original = randomList(random, 30);
+      List<Integer> revised = randomList(random, 30);
+      // WHEN
+      Patch<Integer> patch = new LinearSpaceMyersDiff<Integer>().diff(original, revised);
+      // THEN
+      assertThat(patch.applyTo(original)).isEqualTo(revised);
+      assertThat(differencesCount(patch)).isEqualTo(differencesCount(new MyersDiff<Integer>().diff(original, revised)));
+    }
+  }
+
+  @Test
+  void should_find_as_many_differences_as_MyersDiff_in_lists_with_many_differences() {
+    Random random = new Random(0);
+    for (int i = 0; i < 20; i++) {
+      // GIVEN
+      List<Integer> original = randomList(random, 3000);
+      List<Integer> revised = randomList(random, 3000);
+      // WHEN
+      Patch<Integer> patch = new LinearSpaceMyersDiff<Integer>().diff(original, revised);
+      // THEN
+      assertThat(patch.applyTo(original)).isEqualTo(revised);
+      assertThat(differencesCount(patch)).isEqualTo(differencesCount(new MyersDiff<Integer>().diff(original, revised)));
+    }
+  }
+
+  @Test
+  void should_report_the_first_deltas_only() {
+    // GIVEN
+    List<String> original = newArrayList("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = newArrayList("zzz", "bbb", "yyy", "ddd", "xxx");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>(2).diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(0, newArrayList("aaa")),
+                                                                    new Chunk<>(0, newArrayList("zzz"))),
+                                                  new ChangeDelta<>(new Chunk<>(2, newArrayList("ccc")),
+                                                                    new Chunk<>(2, newArrayList("yyy"))));
+  }
+
+  @Test
+  void should_fail_if_maximum_number_of_deltas_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new LinearSpaceMyersDiff<String>(0))
+                                        .withMessage("maximum number of deltas must be positive but was 0");
+  }
+
+  private static List<Integer> randomList(Random random, int maxSize) {
+    int size = random.nextInt(maxSize);
+    List<Integer> list = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      list.add(random.nextInt(4));
+    }
+    return list;
+  }
+
+  private static int differencesCount(Patch<Integer> patch) {
+    int count = 0;
+    for (Delta<Integer> delta : patch.getDeltas()) {
+      count += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return count;
+  }
+}
@@ -86,6 +86,58 @@ class PropertyOrFieldSupport_getValueOf_Test {
     then(extractedValue).isEqualTo(new Name("Name"));
   }
 
+  @Test
+  void should_fallback_to_field_only_for_instances_whose_property_access_throws_an_exception() {
+    // GIVEN
+    Employee luke = new Employee(2L, new Name("Luke"), 26);
+    Employee leia = new Employee(3L, new Name("Leia"), 26) {
+      @Override
+      public Name getName() {
+        if (getAge() > 18) throw new IllegalStateException();
+        return new Name("Young Leia");
+      }
+    };
+    // WHEN
+    Object leiaName = underTest.getValueOf("name", leia);
+    leia.setAge(5);
+    Object youngLeiaName = underTest.getValueOf("name", leia);
+    Object lukeName = underTest.getValueOf("name", luke);
+    // THEN
+    then(leiaName).isEqualTo(new Name("Leia"));
+    then(youngLeiaName).isEqualTo(new Name("Young Leia"));
+    then(lukeName).isEqualTo(new Name("Luke"));
+  }
+
+  @Test
+  void should_propagate_errors_thrown_by_property_access() {
+    // GIVEN
+    Employee leia = new Employee(3L, new Name("Leia"), 26) {
+      @Override
+      public Name getName() {
+        throw new StackOverflowError();
+      }
+    };
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.getValueOf("name", leia));
+    // THEN
+    then(thrown).isInstanceOf(StackOverflowError.class);
+  }
+
+  @Test
+  void should_extract_values_of_the_same_name_from_different_types() {
+    // GIVEN
+    Map<String, Object> map = new HashMap<>();
+    map.put("surname", "Skywalker");
+    // WHEN
+    Object employeeSurname = underTest.getValueOf("surname", yoda);
+    Object mapSurname = underTest.getValueOf("surname", map);
+    Object nameFirst = underTest.getValueOf("first", new Name("Luke"));
+    // THEN
+    then(employeeSurname).isNull();
+    then(mapSurname).isEqualTo("Skywalker");
+    then(nameFirst).isEqualTo("Luke");
+  }
+
   @Test
   void should_return_null_if_one_of_nested_property_or_field_value_is_null() {
     // WHEN
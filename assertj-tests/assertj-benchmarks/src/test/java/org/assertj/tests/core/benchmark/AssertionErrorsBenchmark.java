@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.error.AssertionErrorCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of assertion errors, opentest4j errors are created by reflection since it is an optional
+ * dependency, JUnit 4 is not in the classpath so that looking up its {@code ComparisonFailure} fails.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionErrorsBenchmark {
+
+  private final AssertionErrorCreator assertionErrorCreator = new AssertionErrorCreator();
+  private final List<AssertionError> errors = errors();
+
+  @Benchmark
+  public AssertionError isEqualTo_failure() {
+    try {
+      assertThat("Frodo").isEqualTo("Sam");
+    } catch (AssertionError e) {
+      return e;
+    }
+    throw new IllegalStateException("assertion should have failed");
+  }
+
+  @Benchmark
+  public AssertionError assertionFailedError_creation() {
+    return assertionErrorCreator.assertionError("expected Sam but was Frodo", "Frodo", "Sam", STANDARD_REPRESENTATION);
+  }
+
+  @Benchmark
+  public AssertionError multipleFailuresError_creation() {
+    return assertionErrorCreator.multipleSoftAssertionsError(errors);
+  }
+
+  private static List<AssertionError> errors() {
+    List<AssertionError> errors = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      errors.add(new AssertionError("error " + i));
+    }
+    return errors;
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler and checks their results against the committed baseline.
+ * <p>
+ * Run them from this module with {@code mvn test-compile exec:exec}, JMH options can be given with
+ * {@code -Djmh.args="..."}, e.g. {@code -Djmh.args="IterablesBenchmark"} to only run the iterables benchmarks.
+ * <p>
+ * The results are written to {@code target/benchmarks.csv}, the run fails if the time or the allocations per operation of
+ * a benchmark exceed its baseline ones by more than the tolerance ({@code -Dbenchmarks.tolerance}, 25% by default).
+ * Baseline scores depend on the machine running the benchmarks, to update them copy the results file to
+ * {@code src/test/resources/benchmarks-baseline.csv}.
+ */
+public class BenchmarksRunner {
+
+  private static final String BASELINE = "/benchmarks-baseline.csv";
+  private static final Path RESULTS = Paths.get("target", "benchmarks.csv");
+  private static final String HEADER = "benchmark,params,score,unit,allocations (B/op)";
+  private static final String ALLOCATIONS = "gc.alloc.rate.norm";
+  // allocations of a few bytes per operation are measurement noise
+  private static final double ALLOCATIONS_NOISE = 16;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().parent(new CommandLineOptions(args))
+                                          .addProfiler(GCProfiler.class)
+                                          .build();
+    Collection<RunResult> runResults = new Runner(options).run();
+    List<BenchmarkResult> results = runResults.stream().map(BenchmarkResult::of).collect(toList());
+    writeResults(results);
+    List<String> regressions = regressions(results, loadBaseline(),
+                                           Double.parseDouble(System.getProperty("benchmarks.tolerance", "0.25")));
+    if (!regressions.isEmpty()) {
+      System.err.println(format("%nBenchmarks regressions compared to the baseline:%n%s",
+                                regressions.stream().collect(joining(format("%n")))));
+      System.exit(1);
+    }
+    System.out.println(format("%nNo benchmarks regression compared to the baseline"));
+  }
+
+  private static List<String> regressions(List<BenchmarkResult> results, Map<String, BenchmarkResult> baseline,
+                                          double tolerance) {
+    List<String> regressions = new ArrayList<>();
+    for (BenchmarkResult result : results) {
+      BenchmarkResult baselineResult = baseline.get(result.id());
+      if (baselineResult == null) {
+        System.out.println(format("No baseline for %s", result.id()));
+        continue;
+      }
+      if (result.unit.equals(baselineResult.unit) && result.score > baselineResult.score * (1 + tolerance)) {
+        regressions.add(format("- %s took %.3f %s instead of %.3f %s", result.id(), result.score, result.unit,
+                               baselineResult.score, baselineResult.unit));
+      }
+      if (result.allocations > baselineResult.allocations * (1 + tolerance) + ALLOCATIONS_NOISE) {
+        regressions.add(format("- %s allocated %.1f B/op instead of %.1f B/op", result.id(), result.allocations,
+                               baselineResult.allocations));
+      }
+    }
+    return regressions;
+  }
+
+  private static void writeResults(List<BenchmarkResult> results) throws IOException {
+    List<String> lines = new ArrayList<>();
+    lines.add(HEADER);
+    results.stream().map(BenchmarkResult::toCsv).forEach(lines::add);
+    Files.createDirectories(RESULTS.getParent());
+    Files.write(RESULTS, lines, UTF_8);
+  }
+
+  private static Map<String, BenchmarkResult> loadBaseline() throws IOException {
+    try (InputStream baseline = BenchmarksRunner.class.getResourceAsStream(BASELINE)) {
+      if (baseline == null) throw new IllegalStateException("Missing benchmarks baseline " + BASELINE);
+      BufferedReader reader = new BufferedReader(new InputStreamReader(baseline, UTF_8));
+      return reader.lines()
+                   .filter(line -> !line.isEmpty() && !line.equals(HEADER))
+                   .map(BenchmarkResult::fromCsv)
+                   .collect(toMap(BenchmarkResult::id, Function.identity()));
+    }
+  }
+
+  private static class BenchmarkResult {
+
+    private final String benchmark;
+    private final String params;
+    private final double score;
+    private final String unit;
+    private final double allocations;
+
+    private BenchmarkResult(String benchmark, String params, double score, String unit, double allocations) {
+      this.benchmark = benchmark;
+      this.params = params;
+      this.score = score;
+      this.unit = unit;
+      this.allocations = allocations;
+    }
+
+    private static BenchmarkResult of(RunResult runResult) {
+      BenchmarkParams benchmarkParams = runResult.getParams();
+      String benchmark = benchmarkParams.getBenchmark().replace(BenchmarksRunner.class.getPackage().getName() + ".", "");
+      String params = benchmarkParams.getParamsKeys().stream()
+                                     .map(key -> key + "=" + benchmarkParams.getParam(key))
+                                     .collect(joining(";"));
+      Result<?> primaryResult = runResult.getPrimaryResult();
+      Result<?> allocations = runResult.getSecondaryResults().get(ALLOCATIONS);
+      return new BenchmarkResult(benchmark, params, primaryResult.getScore(), primaryResult.getScoreUnit(),
+                                 allocations == null ? 0 : allocations.getScore());
+    }
+
+    private static BenchmarkResult fromCsv(String line) {
+      String[] values = line.split(",", -1);
+      return new BenchmarkResult(values[0], values[1], Double.parseDouble(values[2]), values[3],
+                                 Double.parseDouble(values[4]));
+    }
+
+    private String toCsv() {
+      return format("%s,%s,%s,%s,%s", benchmark, params, score, unit, allocations);
+    }
+
+    private String id() {
+      return params.isEmpty() ? benchmark : benchmark + "(" + params + ")";
+    }
+  }
+
+}
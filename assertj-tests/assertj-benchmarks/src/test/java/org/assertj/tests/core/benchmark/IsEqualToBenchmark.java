@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.AbstractAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the most common assertion: creating an assert and checking it is equal to the expected value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsEqualToBenchmark {
+
+  private final String actualString = new String("Frodo");
+  private final String expectedString = new String("Frodo");
+  private final Integer actualInteger = 1_000;
+  private final Integer expectedInteger = 1_000;
+  private final List<String> actualList = names();
+  private final List<String> expectedList = names();
+
+  @Benchmark
+  public AbstractAssert<?, ?> string_isEqualTo() {
+    return assertThat(actualString).isEqualTo(expectedString);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> integer_isEqualTo() {
+    return assertThat(actualInteger).isEqualTo(expectedInteger);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> list_isEqualTo() {
+    return assertThat(actualList).isEqualTo(expectedList);
+  }
+
+  private static List<String> names() {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      names.add("name " + i);
+    }
+    return names;
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.AbstractAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the iterable assertions checking the actual elements regardless of their order, these have to look up each
+ * actual element in the expected values (and the other way around).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterablesBenchmark {
+
+  @Param({ "100", "10000" })
+  private int size;
+
+  private List<Integer> actual;
+  private Integer[] values;
+
+  @Setup
+  public void setup() {
+    actual = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      actual.add(i);
+    }
+    List<Integer> shuffled = new ArrayList<>(actual);
+    Collections.shuffle(shuffled, new Random(0));
+    values = shuffled.toArray(new Integer[0]);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> containsOnly() {
+    return assertThat(actual).containsOnly(values);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> containsExactlyInAnyOrder() {
+    return assertThat(actual).containsExactlyInAnyOrder(values);
+  }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.AbstractAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the recursive comparison of a wide graph (a list of persons) and of a deep one (a tree whose nodes paths are
+ * long), the latter stresses the field locations handling as each compared node gets its own field location.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecursiveComparisonBenchmark {
+
+  private static final int PERSONS_COUNT = 1_000;
+  // 4^8 leaves, about 87k nodes
+  private static final int TREE_DEPTH = 8;
+  private static final int TREE_CHILDREN_COUNT = 4;
+
+  private final List<Person> actualPersons = persons();
+  private final List<Person> expectedPersons = persons();
+  private final Node actualTree = tree(0, TREE_DEPTH);
+  private final Node expectedTree = tree(0, TREE_DEPTH);
+
+  @Benchmark
+  public AbstractAssert<?, ?> persons_recursive_comparison() {
+    return assertThat(actualPersons).usingRecursiveComparison()
+                                    .isEqualTo(expectedPersons);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> persons_recursive_comparison_ignoring_fields() {
+    return assertThat(actualPersons).usingRecursiveComparison()
+                                    .ignoringFields("address.zipCode")
+                                    .ignoringFieldsMatchingRegexes(".*nickname")
+                                    .isEqualTo(expectedPersons);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> persons_recursive_comparison_ignoring_collection_order() {
+    return assertThat(actualPersons).usingRecursiveComparison()
+                                    .ignoringCollectionOrder()
+                                    .isEqualTo(expectedPersons);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> deep_tree_recursive_comparison() {
+    return assertThat(actualTree).usingRecursiveComparison()
+                                 .isEqualTo(expectedTree);
+  }
+
+  private static List<Person> persons() {
+    List<Person> persons = new ArrayList<>();
+    for (int i = 0; i < PERSONS_COUNT; i++) {
+      persons.add(new Person("person " + i, i, new Address("street " + i, "zip " + i)));
+    }
+    return persons;
+  }
+
+  private static Node tree(int value, int depth) {
+    Node node = new Node(value);
+    if (depth == 0) return node;
+    for (int i = 0; i < TREE_CHILDREN_COUNT; i++) {
+      node.children.add(tree(i, depth - 1));
+    }
+    return node;
+  }
+
+  static class Person {
+    final String name;
+    final String nickname;
+    final int age;
+    final Address address;
+
+    Person(String name, int age, Address address) {
+      this.name = name;
+      this.nickname = name;
+      this.age = age;
+      this.address = address;
+    }
+  }
+
+  static class Address {
+    final String street;
+    final String zipCode;
+
+    Address(String street, String zipCode) {
+      this.street = street;
+      this.zipCode = zipCode;
+    }
+  }
+
+  static class Node {
+    final int value;
+    final List<Node> children = new ArrayList<>();
+
+    Node(int value) {
+      this.value = value;
+    }
+  }
+
+}
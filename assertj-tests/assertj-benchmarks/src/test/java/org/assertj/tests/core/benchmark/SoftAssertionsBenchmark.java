@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures soft assertions, each {@code softly.assertThat} creates a proxy of the assert class intercepting the assertions
+ * errors, the proxy classes are generated once but the proxies themselves are created for every soft assertion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SoftAssertionsBenchmark {
+
+  private final List<String> names = names();
+
+  @Benchmark
+  public SoftAssertions soft_assertions_proxies_creation() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat("Frodo").isEqualTo("Frodo");
+    softly.assertThat(1_000).isGreaterThan(10);
+    softly.assertThat(names).contains("name 5");
+    softly.assertThat(new int[] { 1, 2, 3 }).contains(2);
+    softly.assertAll();
+    return softly;
+  }
+
+  @Benchmark
+  public SoftAssertions failing_soft_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat("Frodo").isEqualTo("Sam");
+    softly.assertThat(names).contains("Sam");
+    // not calling assertAll as we only want to measure collecting the errors
+    return softly;
+  }
+
+  private static List<String> names() {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      names.add("name " + i);
+    }
+    return names;
+  }
+
+}
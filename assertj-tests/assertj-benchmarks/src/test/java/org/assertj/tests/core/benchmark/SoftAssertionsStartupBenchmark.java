@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.util.Arrays;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to the first soft assertions and assumptions in a fresh JVM, which includes loading (or generating when
+ * they are not pregenerated) the proxy classes of the assert classes used, like the first test of each forked test JVM.
+ * <p>
+ * Each fork runs the benchmark once without warmup, the score is the average of the forks single shots.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class SoftAssertionsStartupBenchmark {
+
+  @Benchmark
+  public SoftAssertions first_soft_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat("Frodo").startsWith("Fro");
+    softly.assertThat(1_000).isGreaterThan(10);
+    softly.assertThat(Arrays.asList("Frodo", "Sam")).contains("Sam");
+    softly.assertThat(new int[] { 1, 2, 3 }).contains(2);
+    softly.assertThat(true).isTrue();
+    softly.assertAll();
+    return softly;
+  }
+
+  @Benchmark
+  public void first_assumptions() {
+    assumeThat("Frodo").startsWith("Fro");
+    assumeThat(1_000).isGreaterThan(10);
+    assumeThat(Arrays.asList("Frodo", "Sam")).contains("Sam");
+    assumeThat(new int[] { 1, 2, 3 }).contains(2);
+    assumeThat(true).isTrue();
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the representation of big collections and arrays, used in the error messages of failing assertions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StandardRepresentationBenchmark {
+
+  @Param({ "100", "100000" })
+  private int size;
+
+  private List<String> list;
+  private Map<Integer, String> map;
+  private int[] array;
+
+  @Setup
+  public void setup() {
+    list = new ArrayList<>();
+    map = new HashMap<>();
+    array = new int[size];
+    for (int i = 0; i < size; i++) {
+      list.add("element " + i);
+      map.put(i, "value " + i);
+      array[i] = i;
+    }
+  }
+
+  @Benchmark
+  public String list_toStringOf() {
+    return STANDARD_REPRESENTATION.toStringOf(list);
+  }
+
+  @Benchmark
+  public String map_toStringOf() {
+    return STANDARD_REPRESENTATION.toStringOf(map);
+  }
+
+  @Benchmark
+  public String array_toStringOf() {
+    return STANDARD_REPRESENTATION.toStringOf(array);
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.AbstractAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the textual comparison of large files like generated reports, either identical or differing on a few lines,
+ * the failing assertion computes the diff of the files lines to report their differences.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextualContentBenchmark {
+
+  private static final int DIFFERENT_LINES_COUNT = 10;
+
+  @Param({ "10000", "500000" })
+  private int lines;
+
+  private Path actual;
+  private Path expected;
+  private Path expectedCopy;
+
+  @Setup
+  public void setup() throws IOException {
+    List<String> expectedLines = new ArrayList<>();
+    for (int i = 0; i < lines; i++) {
+      expectedLines.add("report line " + i);
+    }
+    List<String> actualLines = new ArrayList<>(expectedLines);
+    for (int i = 1; i <= DIFFERENT_LINES_COUNT; i++) {
+      actualLines.set(i * lines / (DIFFERENT_LINES_COUNT + 1), "changed line " + i);
+    }
+    actual = Files.write(Files.createTempFile("actual", ".txt"), actualLines, UTF_8);
+    expected = Files.write(Files.createTempFile("expected", ".txt"), expectedLines, UTF_8);
+    expectedCopy = Files.write(Files.createTempFile("expected-copy", ".txt"), expectedLines, UTF_8);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(actual);
+    Files.deleteIfExists(expected);
+    Files.deleteIfExists(expectedCopy);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> hasSameTextualContentAs_identical_files() {
+    return assertThat(expectedCopy).hasSameTextualContentAs(expected, UTF_8);
+  }
+
+  @Benchmark
+  public AssertionError hasSameTextualContentAs_near_identical_files() {
+    try {
+      assertThat(actual).hasSameTextualContentAs(expected, UTF_8);
+    } catch (AssertionError error) {
+      return error;
+    }
+    throw new IllegalStateException("files should differ");
+  }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ListAssert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class Assertions_assertThat_with_Stream_consumingLazily_Test {
+
+  @Test
+  void isNotEmpty_should_only_consume_the_first_element() {
+    assertThat(infiniteStream()).consumingLazily()
+                                .isNotEmpty();
+  }
+
+  @Test
+  void first_should_only_consume_the_first_element() {
+    assertThat(infiniteStream()).consumingLazily()
+                                .first()
+                                .isEqualTo(1);
+    assertThat(infiniteStream()).consumingLazily()
+                                .first(INTEGER)
+                                .isOne();
+  }
+
+  @Test
+  void hasSizeGreaterThan_should_only_consume_boundary_plus_one_elements() {
+    assertThat(infiniteStream()).consumingLazily()
+                                .hasSizeGreaterThan(1_000);
+    assertThat(infiniteStream()).consumingLazily()
+                                .hasSizeGreaterThanOrEqualTo(1_000);
+  }
+
+  @Test
+  void contains_should_stop_once_all_values_are_found() {
+    assertThat(infiniteStream()).consumingLazily()
+                                .contains(1_000, 5, 1_000);
+  }
+
+  @Test
+  void startsWith_should_only_consume_the_sequence_length_elements() {
+    assertThat(infiniteStream()).consumingLazily()
+                                .startsWith(1, 2, 3);
+  }
+
+  @Test
+  void anyMatch_should_stop_at_the_first_matching_element() {
+    assertThat(infiniteStream()).consumingLazily()
+                                .anyMatch(i -> i == 1_000)
+                                .consumingLazily();
+    assertThat(infiniteStream()).consumingLazily()
+                                .anyMatch(i -> i == 1_000, "is 1000");
+  }
+
+  @Test
+  void allMatch_should_pass_on_a_stream_with_more_elements_than_could_be_collected() {
+    // GIVEN
+    Stream<Integer> stream = IntStream.range(0, 100_000_000).boxed();
+    // WHEN/THEN
+    assertThat(stream).consumingLazily()
+                      .allMatch(i -> i >= 0);
+  }
+
+  @Test
+  void noneMatch_should_pass_if_no_element_matches() {
+    assertThat(Stream.of(1, 2, 3)).consumingLazily()
+                                  .noneMatch(i -> i > 3);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource
+  void should_fail_with_the_same_error_message_as_when_collecting_the_stream(String assertion,
+                                                                             Consumer<ListAssert<Integer>> assertions) {
+    // WHEN
+    AssertionError lazyError = expectAssertionError(() -> assertions.accept(assertThat(stream()).consumingLazily()));
+    // THEN
+    AssertionError error = expectAssertionError(() -> assertions.accept(assertThat(stream())));
+    then(lazyError).hasMessage(error.getMessage());
+  }
+
+  static Stream<Arguments> should_fail_with_the_same_error_message_as_when_collecting_the_stream() {
+    return Stream.of(failingAssertion("hasSizeGreaterThan", listAssert -> listAssert.hasSizeGreaterThan(2_000)),
+                     failingAssertion("hasSizeGreaterThanOrEqualTo", listAssert -> listAssert.hasSizeGreaterThanOrEqualTo(2_001)),
+                     failingAssertion("contains", listAssert -> listAssert.contains(5, -1, 1_500, -2)),
+                     failingAssertion("anyMatch", listAssert -> listAssert.anyMatch(i -> i < 0)),
+                     failingAssertion("allMatch", listAssert -> listAssert.allMatch(i -> i % 500 != 0)),
+                     failingAssertion("allMatch with description",
+                                      listAssert -> listAssert.allMatch(i -> i != 1_000, "not 1000")),
+                     failingAssertion("allMatch with more non matching elements than printed",
+                                      listAssert -> listAssert.allMatch(i -> i < 0)),
+                     failingAssertion("noneMatch on the last element", listAssert -> listAssert.noneMatch(i -> i == 2_000)),
+                     failingAssertion("startsWith", listAssert -> listAssert.startsWith(1, 2, 4)));
+  }
+
+  private static Arguments failingAssertion(String assertion, Consumer<ListAssert<Integer>> assertions) {
+    return Arguments.of(assertion, assertions);
+  }
+
+  @Test
+  void should_fail_with_the_same_error_message_as_when_collecting_an_empty_stream() {
+    // WHEN
+    AssertionError lazyError = expectAssertionError(() -> assertThat(Stream.empty()).consumingLazily().isNotEmpty());
+    // THEN
+    AssertionError error = expectAssertionError(() -> assertThat(Stream.empty()).isNotEmpty());
+    then(lazyError).hasMessage(error.getMessage());
+    then(expectAssertionError(() -> assertThat(Stream.empty()).consumingLazily().first())).hasMessage(error.getMessage());
+  }
+
+  @Test
+  void noneMatch_should_fail_at_the_first_matching_element() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> assertThat(infiniteStream()).consumingLazily()
+                                                                                  .noneMatch(i -> i == 1_000));
+    // THEN
+    then(error).hasMessageContainingAll("but this element did:", "1000",
+                                        "(the stream was not fully read, only its first 1000 element(s) were consumed)");
+  }
+
+  @Test
+  void contains_should_fail_at_the_first_element_if_no_values_are_given() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> assertThat(infiniteStream()).consumingLazily()
+                                                                                  .contains());
+    // THEN
+    then(error).hasMessageContainingAll("[1]", "is not empty",
+                                        "(the stream was not fully read, only its first 1 element(s) were consumed)");
+  }
+
+  @Test
+  void allMatch_should_not_keep_all_the_non_matching_elements() {
+    // GIVEN
+    Stream<Integer> stream = IntStream.range(0, 100_000_000).boxed();
+    // WHEN
+    AssertionError error = expectAssertionError(() -> assertThat(stream).consumingLazily()
+                                                                        .allMatch(i -> i < 0));
+    // THEN
+    then(error).hasMessageContainingAll("99999999", "...")
+               .hasMessageNotContaining("50000000");
+  }
+
+  @Test
+  void should_close_the_stream_once_consumed() {
+    // GIVEN
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<Integer> stream = infiniteStream().onClose(() -> closed.set(true));
+    // WHEN
+    assertThat(stream).consumingLazily()
+                      .anyMatch(i -> i == 10);
+    // THEN
+    then(closed).isTrue();
+  }
+
+  @Test
+  void should_not_allow_chaining_another_assertion_after_the_stream_is_consumed() {
+    // GIVEN
+    ListAssert<Integer> listAssert = assertThat(Stream.of(1, 2, 3)).consumingLazily()
+                                                                   .anyMatch(i -> i == 2);
+    // WHEN
+    Throwable throwable = catchThrowable(() -> listAssert.hasSize(3));
+    // THEN
+    then(throwable).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void should_read_the_elements_collected_by_a_previous_assertion() {
+    assertThat(Stream.of(1, 2, 3)).consumingLazily()
+                                  .hasSize(3)
+                                  .anyMatch(i -> i == 2)
+                                  .contains(3);
+  }
+
+  private static Stream<Integer> infiniteStream() {
+    return Stream.iterate(1, i -> i + 1);
+  }
+
+  private static Stream<Integer> stream() {
+    return IntStream.rangeClosed(1, 2_000).boxed();
+  }
+
+}
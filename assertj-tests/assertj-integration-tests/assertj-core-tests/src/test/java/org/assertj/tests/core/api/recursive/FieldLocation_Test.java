@@ -32,6 +32,9 @@ class FieldLocation_Test {
   void should_honor_equals_contract() {
     // WHEN/THEN
     EqualsVerifier.forClass(FieldLocation.class)
+                  .withPrefabValues(FieldLocation.class, new FieldLocation("red"), new FieldLocation("blue"))
+                  .withIgnoredFields("pathToUseInRules", "decomposedPath")
+                  .withCachedHashCode("hashCode", "computeHashCode", new FieldLocation("name"))
                   .verify();
   }
 
@@ -163,6 +163,8 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
     // WHEN/THEN
     ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends,
                                                   format("The following expected elements were not matched in the actual ArrayList:%n"
+                                                         + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=1]]]]%n"
+                                                         + "The following actual elements were not matched in the expected ArrayList:%n"
                                                          + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=1]]]]"));
     compareRecursivelyFailsWithDifferences(actual, expected, friendsDifference);
   }
@@ -232,6 +234,8 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
     // WHEN/THEN
     ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends,
                                                   format("The following expected elements were not matched in the actual ArrayList:%n"
+                                                         + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=1]]]]%n"
+                                                         + "The following actual elements were not matched in the expected ArrayList:%n"
                                                          + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=1]]]]"));
     compareRecursivelyFailsWithDifferences(actual, expected, friendsDifference);
   }
@@ -548,7 +552,40 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
                                                                                       .isEqualTo(expectedItems));
     // THEN
     then(assertionError).hasMessageContaining(format("The following expected elements were not matched in the actual List12:%n" +
-                                                     "  [Item(Shoes, 2)]"));
+                                                     "  [Item(Shoes, 2)]%n" +
+                                                     "The following actual elements were not matched in the expected List12:%n" +
+                                                     "  [Item(Loafers, 1)]"));
+  }
+
+  @Test
+  void should_fail_when_an_actual_element_could_only_match_several_expected_elements() {
+    // GIVEN
+    List<Product> actualProducts = list(new Product("Shoes", 2), new Product("Pants", 3));
+    List<Product> expectedProducts = list(new Product("Shoes", 2), new Product("Shoes", 2));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actualProducts).usingRecursiveComparison()
+                                                                                         .ignoringCollectionOrder()
+                                                                                         .isEqualTo(expectedProducts));
+    // THEN
+    then(assertionError).hasMessageContaining(format("The following expected elements were not matched in the actual ArrayList:%n" +
+                                                     "  [Product[name=Shoes, size=2]]%n" +
+                                                     "The following actual elements were not matched in the expected ArrayList:%n" +
+                                                     "  [Product[name=Pants, size=3]]"));
+  }
+
+  @Test
+  void should_pass_when_elements_only_match_elements_with_a_different_hash_code() {
+    // GIVEN
+    List<Product> actualProducts = list(new Product("Shoes", 2), new Product("Pants", 3), new Product("Socks", 4));
+    List<Product> expectedProducts = list(new Product("Socks", 1), new Product("Shoes", 1), new Product("Pants", 1));
+    // WHEN/THEN
+    then(actualProducts).usingRecursiveComparison()
+                        .ignoringCollectionOrder()
+                        .ignoringFields("size")
+                        .isEqualTo(expectedProducts);
+  }
+
+  record Product(String name, int size) {
   }
 
 }
@@ -568,6 +568,23 @@ class RecursiveComparisonAssert_isEqualTo_ignoringFields_Test extends RecursiveC
                                            dateOfBirthDifference, neighbourDateOfBirthDifference);
   }
 
+  @Test
+  void should_take_into_account_fields_ignored_after_a_previous_comparison() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("Jack");
+    expected.home.address.number = 2;
+    recursiveComparisonConfiguration.ignoreFields("name");
+    compareRecursivelyFailsWithDifferences(actual, expected,
+                                           javaTypeDiff("home.address.number", 1, 2));
+    // WHEN
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes(".*number");
+    // THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .isEqualTo(expected);
+  }
+
   @ParameterizedTest(name = "{2}: actual={0} / expected={1} / ignored types={3}")
   @MethodSource("recursivelyEqualObjectsIgnoringGivenTypes")
   void should_pass_when_fields_with_given_types_are_ignored(Object actual,
@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Home;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withParallelism_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  private static final int PERSONS_COUNT = 1_000;
+
+  private final RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator = new RecursiveComparisonDifferenceCalculator();
+
+  @Test
+  void should_pass_when_compared_values_are_equal() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withParallelism(4)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_compare_independent_values_in_other_threads() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    Set<Thread> namesComparisonThreads = ConcurrentHashMap.newKeySet();
+    Comparator<String> namesComparator = (name1, name2) -> {
+      namesComparisonThreads.add(Thread.currentThread());
+      return name1.compareTo(name2);
+    };
+    // WHEN
+    then(actual).usingRecursiveComparison()
+                .withComparatorForFields(namesComparator, "name")
+                .withParallelism(4)
+                .isEqualTo(expected);
+    // THEN
+    then(namesComparisonThreads).isNotEmpty()
+                                .doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    for (int i = 0; i < PERSONS_COUNT; i += 7) {
+      expected.get(i).name = "Jack";
+      expected.get(i).home.address.number = -i - 1;
+    }
+    // WHEN
+    List<ComparisonDifference> differences = determineDifferencesInParallel(actual, expected);
+    // THEN
+    then(differences).hasSize(2 * (PERSONS_COUNT / 7 + 1))
+                     .containsExactlyElementsOf(determineDifferencesSequentially(actual, expected));
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison_when_ignoring_collection_order() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    expected.get(10).name = "Jack";
+    expected.get(900).name = "Jim";
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    // WHEN
+    List<ComparisonDifference> differences = determineDifferencesInParallel(actual, expected);
+    // THEN
+    then(differences).isNotEmpty()
+                     .containsExactlyElementsOf(determineDifferencesSequentially(actual, expected));
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison_when_values_are_shared() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    // the shared homes are only compared once, when compared in parallel each part would compare them
+    Home actualHome = new Home();
+    Home expectedHome = new Home();
+    expectedHome.address.number = 2;
+    actual.forEach(person -> person.home = actualHome);
+    expected.forEach(person -> person.home = expectedHome);
+    // WHEN
+    List<ComparisonDifference> differences = determineDifferencesInParallel(actual, expected);
+    // THEN
+    then(differences).hasSize(1)
+                     .containsExactlyElementsOf(determineDifferencesSequentially(actual, expected));
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison_when_values_cycle() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    // persons are neighbours of one another, their comparisons are done in different parts when compared in parallel
+    for (int i = 0; i < PERSONS_COUNT; i++) {
+      actual.get(i).neighbour = actual.get((i + PERSONS_COUNT / 2) % PERSONS_COUNT);
+      expected.get(i).neighbour = expected.get((i + PERSONS_COUNT / 2) % PERSONS_COUNT);
+    }
+    expected.get(500).name = "Jack";
+    // WHEN
+    List<ComparisonDifference> differences = determineDifferencesInParallel(actual, expected);
+    // THEN
+    then(differences).isNotEmpty()
+                     .containsExactlyElementsOf(determineDifferencesSequentially(actual, expected));
+  }
+
+  @Test
+  void should_propagate_the_error_of_the_sequential_comparison() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    actual.get(100).name = "Jack";
+    actual.get(800).name = "Jim";
+    Comparator<String> namesComparator = (name1, name2) -> {
+      if (name1.startsWith("J")) throw new IllegalStateException("can't compare " + name1);
+      return name1.compareTo(name2);
+    };
+    recursiveComparisonConfiguration.registerComparatorForFields(namesComparator, "name");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> determineDifferencesInParallel(actual, expected));
+    // THEN
+    Throwable sequentialComparisonError = catchThrowable(() -> determineDifferencesSequentially(actual, expected));
+    then(throwable).isInstanceOf(IllegalStateException.class)
+                   .hasMessage(sequentialComparisonError.getMessage());
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_not_strictly_positive() {
+    // GIVEN
+    Object actual = new Person("John");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(actual).usingRecursiveComparison()
+                                                                 .withParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("The parallelism must be strictly positive but was 0");
+  }
+
+  private List<ComparisonDifference> determineDifferencesInParallel(Object actual, Object expected) {
+    recursiveComparisonConfiguration.setParallelism(4);
+    return recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, recursiveComparisonConfiguration);
+  }
+
+  private List<ComparisonDifference> determineDifferencesSequentially(Object actual, Object expected) {
+    recursiveComparisonConfiguration.setParallelism(1);
+    return recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, recursiveComparisonConfiguration);
+  }
+
+  private static List<Person> persons() {
+    List<Person> persons = new ArrayList<>();
+    for (int i = 0; i < PERSONS_COUNT; i++) {
+      Person person = new Person("Person " + i);
+      person.home.address.number = i;
+      persons.add(person);
+    }
+    return persons;
+  }
+
+}
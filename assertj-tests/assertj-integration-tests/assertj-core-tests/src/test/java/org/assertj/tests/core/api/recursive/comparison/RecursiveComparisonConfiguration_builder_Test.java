@@ -379,6 +379,14 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.getIntrospectionStrategy()).isSameAs(myIntrospectionStrategy);
   }
 
+  @Test
+  void should_set_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withParallelism(4).build();
+    // THEN
+    then(configuration.getParallelism()).isEqualTo(4);
+  }
+
   @Test
   void should_set_the_standard_representation_if_none_is_set() {
     // WHEN
@@ -421,6 +421,16 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     then(multiLineDescription).contains("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal");
   }
 
+  @Test
+  void should_show_that_comparison_is_performed_in_parallel() {
+    // GIVEN
+    recursiveComparisonConfiguration.setParallelism(4);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains(format("- independent parts of the compared objects were compared in parallel using 4 threads%n"));
+  }
+
   // just to test the description does not fail when given a comparator with various String.format reserved flags
   private static class PercentageComparator implements Comparator<Double> {
 
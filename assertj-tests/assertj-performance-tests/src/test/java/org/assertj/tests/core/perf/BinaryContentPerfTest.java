@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * These tests ensure that binary content assertions read the compared contents block by block rather than byte by byte
+ * and without loading the expected content in memory.
+ * <p>
+ * Comparing 256 MB byte by byte takes about half a billion virtual read calls, whereas block reads take a few tens of
+ * thousands of calls.
+ */
+class BinaryContentPerfTest {
+
+  private static final int BLOCK_SIZE = 1024 * 1024;
+  private static final int BLOCKS_COUNT = 256;
+
+  @TempDir
+  static Path tempDir;
+
+  private static Path actual;
+  private static Path expected;
+
+  @BeforeAll
+  static void writeFiles() throws IOException {
+    actual = write(tempDir.resolve("actual"));
+    expected = write(tempDir.resolve("expected"));
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_hasSameBinaryContentAs_256mb_path() {
+    assertThat(actual).hasSameBinaryContentAs(expected);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_hasSameBinaryContentAs_256mb_file() {
+    assertThat(actual.toFile()).hasSameBinaryContentAs(expected.toFile());
+  }
+
+  private static Path write(Path path) throws IOException {
+    byte[] block = new byte[BLOCK_SIZE];
+    for (int i = 0; i < block.length; i++) {
+      block[i] = (byte) i;
+    }
+    try (OutputStream output = Files.newOutputStream(path)) {
+      for (int i = 0; i < BLOCKS_COUNT; i++) {
+        output.write(block);
+      }
+    }
+    return path;
+  }
+
+}
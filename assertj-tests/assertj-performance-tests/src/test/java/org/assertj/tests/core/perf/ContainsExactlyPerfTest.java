@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that finding the elements that differ between actual and the expected values is an O(N) operation
+ * with the standard comparison strategy and an O(N log N) one with an element comparator rather than an O(N^2) one.
+ * <p>
+ * Comparing each actual element to the expected values takes about 1000 billion comparisons for 1 million elements.
+ */
+class ContainsExactlyPerfTest {
+
+  private static final int ELEMENTS_COUNT = 1_000_000;
+  private static final Comparator<String> CASE_INSENSITIVE_COMPARATOR = String::compareToIgnoreCase;
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactly_1mElements() {
+    assertThat(elements()).containsExactly(elements().toArray(new String[0]));
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactly_1mElements_usingElementComparator() {
+    assertThat(elements()).usingElementComparator(CASE_INSENSITIVE_COMPARATOR)
+                          .containsExactly(upperCaseElements().toArray(new String[0]));
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactlyInAnyOrder_1mElements() {
+    assertThat(elements()).containsExactlyInAnyOrder(shuffled(elements()));
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactlyInAnyOrder_1mElements_failure() {
+    // GIVEN
+    List<String> actual = elements();
+    String[] values = shuffled(elements());
+    values[0] = "not an element";
+    // WHEN/THEN
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(actual).containsExactlyInAnyOrder(values));
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactlyInAnyOrder_1mElements_array() {
+    assertThat(elements().toArray(new String[0])).containsExactlyInAnyOrder(shuffled(elements()));
+  }
+
+  private static List<String> elements() {
+    List<String> elements = new ArrayList<>();
+    for (int i = 0; i < ELEMENTS_COUNT; i++) {
+      elements.add("element " + i);
+    }
+    return elements;
+  }
+
+  private static List<String> upperCaseElements() {
+    List<String> elements = new ArrayList<>();
+    for (int i = 0; i < ELEMENTS_COUNT; i++) {
+      elements.add("ELEMENT " + i);
+    }
+    return elements;
+  }
+
+  private static String[] shuffled(List<String> elements) {
+    Collections.shuffle(elements, new Random(0));
+    return elements.toArray(new String[0]);
+  }
+
+}
@@ -34,6 +34,9 @@ import org.junit.jupiter.api.Timeout;
  * Therefore, 5 seconds (the limit used in the tests below) seems to be a good threshold that would
  * clearly distinguish .containsOnly(...) being O(N) or O(N^2) on any test agent, thus preventing
  * a regression of .containsOnly(...) back to O(N^2) complexity.
+ * <p>
+ * Likewise, checking that 1 million elements contain (only) 100 thousand values should be an O(N + M) rather than an
+ * O(N * M) operation, elements are looked up by hash code when their hash code is consistent with equals.
  *
  * @see <a href="https://github.com/assertj/assertj/issues/1718">assertj/assertj#1718</a>
  */
@@ -60,4 +63,32 @@ class ContainsOnlyPerfTest {
                        .containsOnly(0, 1);
   }
 
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_1mElements_100kValues() {
+    final ArrayList<String> objects = new ArrayList<>();
+    for (int i = 0; i < 1_000_000; i++) {
+      objects.add("key " + i % 100_000);
+    }
+    assertThat(objects).containsOnly(keys());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_1mElements_100kValues() {
+    final ArrayList<String> objects = new ArrayList<>();
+    for (int i = 0; i < 1_000_000; i++) {
+      objects.add("key " + i);
+    }
+    assertThat(objects).contains(keys());
+  }
+
+  private static String[] keys() {
+    String[] keys = new String[100_000];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = "key " + (keys.length - 1 - i);
+    }
+    return keys;
+  }
+
 }
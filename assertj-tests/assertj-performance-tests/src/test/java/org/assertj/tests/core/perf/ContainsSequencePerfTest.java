@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that looking for a sequence of k values in an iterable of N elements is an O(N + k) rather than an
+ * O(N * k) operation and that the elements are not stored, the iterables below lazily generate 5 million events, as an event
+ * log read from an iterator would.
+ * <p>
+ * The events repeat the start of the sequence over and over, comparing the whole sequence from each element takes about 5
+ * billion comparisons (much more if the elements are stored in a linked list), whereas each element is compared about
+ * twice when the sequence is matched with the Knuth-Morris-Pratt algorithm.
+ * <p>
+ * The same goes for arrays of 10 million elements, primitive arrays being searched with a rolling hash.
+ */
+class ContainsSequencePerfTest {
+
+  private static final int EVENTS_COUNT = 5_000_000;
+  private static final int SEQUENCE_LENGTH = 1_000;
+  private static final int SAMPLES_COUNT = 10_000_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSequence_5mElements_1kValues() {
+    assertThat(events()).containsSequence(sequence());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContainSequence_5mElements_1kValues() {
+    assertThat(events()).doesNotContainSequence(sequence("stop"));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSubsequence_5mElements_1kValues() {
+    assertThat(events()).containsSubsequence(sequence());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_array_containsSequence_10mElements_1kValues() {
+    String[] events = new String[SAMPLES_COUNT];
+    Arrays.fill(events, "tick");
+    events[SAMPLES_COUNT - 1] = "tock";
+    assertThat(events).containsSequence(sequence())
+                      .doesNotContainSequence(sequence("stop"));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_int_array_containsSequence_10mElements_1kValues() {
+    int[] samples = new int[SAMPLES_COUNT];
+    samples[SAMPLES_COUNT - 1] = 1;
+    int[] sequence = new int[SEQUENCE_LENGTH];
+    sequence[SEQUENCE_LENGTH - 1] = 1;
+    int[] absentSequence = new int[SEQUENCE_LENGTH];
+    absentSequence[SEQUENCE_LENGTH - 1] = 2;
+    assertThat(samples).containsSequence(sequence);
+    // primitive array assertions have no doesNotContainSequence, look for the absent sequence through the whole array
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(samples).containsSequence(absentSequence));
+  }
+
+  // only ticks except for the last event
+  private static Iterable<String> events() {
+    return () -> new Iterator<String>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < EVENTS_COUNT;
+      }
+
+      @Override
+      public String next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return ++index < EVENTS_COUNT ? "tick" : "tock";
+      }
+    };
+  }
+
+  private static String[] sequence() {
+    return sequence("tock");
+  }
+
+  private static String[] sequence(String lastValue) {
+    String[] sequence = new String[SEQUENCE_LENGTH];
+    Arrays.fill(sequence, "tick");
+    sequence[SEQUENCE_LENGTH - 1] = lastValue;
+    return sequence;
+  }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that date assertions with dates given as strings don't serialize concurrent tests on a lock and don't
+ * parse the same dates again and again.
+ */
+class DateStringParsingPerfTest {
+
+  private static final int DATES_COUNT = 500;
+  private static final int ASSERTIONS_COUNT = 1_000_000;
+
+  @Test
+  @Timeout(value = 10)
+  void test_isEqualTo_1m_times_with_few_dates_given_as_strings_in_parallel() {
+    // GIVEN
+    List<Date> dates = IntStream.range(0, DATES_COUNT)
+                                .mapToObj(i -> Date.from(Instant.parse("2024-03-01T00:00:00Z").plusSeconds(i * 3_661L)))
+                                .collect(toList());
+    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX");
+    List<String> datesAsString = dates.stream().map(dateFormat::format).collect(toList());
+    // WHEN/THEN
+    IntStream.range(0, ASSERTIONS_COUNT)
+             .parallel()
+             .forEach(i -> assertThat(dates.get(i % DATES_COUNT)).isEqualTo(datesAsString.get(i % DATES_COUNT)));
+  }
+
+}
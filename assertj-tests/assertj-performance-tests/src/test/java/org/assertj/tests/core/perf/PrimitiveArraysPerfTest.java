@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure assertions on primitive arrays of 10 million elements read the elements without boxing them and
+ * that containsOnly, containsExactlyInAnyOrder and doesNotHaveDuplicates sort the elements rather than comparing every
+ * element to every value.
+ */
+class PrimitiveArraysPerfTest {
+
+  private static final int SIZE = 10_000_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_int_array_containsOnly_100kValues() {
+    int[] samples = new int[SIZE];
+    for (int i = 0; i < samples.length; i++) {
+      samples[i] = i % 100_000;
+    }
+    int[] values = new int[100_000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = values.length - 1 - i;
+    }
+    assertThat(samples).containsOnly(values);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_double_array_checks() {
+    double[] samples = new double[SIZE];
+    for (int i = 0; i < samples.length; i++) {
+      samples[i] = i * 0.5;
+    }
+    double[] shuffled = samples.clone();
+    for (int i = shuffled.length - 1; i > 0; i--) {
+      int j = ThreadLocalRandom.current().nextInt(i + 1);
+      double swapped = shuffled[i];
+      shuffled[i] = shuffled[j];
+      shuffled[j] = swapped;
+    }
+    assertThat(samples).isSorted()
+                       .doesNotHaveDuplicates()
+                       .contains(0.5, 1_000.0, 4_999_999.5)
+                       .containsExactly(samples.clone())
+                       .containsExactlyInAnyOrder(shuffled);
+  }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that the recursive comparison of big object graphs is an O(N) rather than O(N^2) operation.
+ * <p>
+ * Visited nodes used to be stored in a list looked up linearly for each compared node, for 1 million nodes that is about
+ * 1000 billion reference comparisons which can't complete within the time limit used in the tests below, whereas indexing
+ * them by identity keeps the comparison well within that limit, even on a single core test agent.
+ * <p>
+ * Likewise, unordered collections elements used to be grouped by hash code again for each expected element.
+ * <p>
+ * Each compared node also gets its own field location, these used to copy the whole path of their parent location and
+ * to eagerly compute all the paths of their hierarchy, which made deep graphs comparison allocate O(depth^2) per node.
+ */
+class RecursiveComparisonPerfTest {
+
+  private static final int CHILDREN_COUNT = 1_000;
+  private static final int DEEP_GRAPH_DEPTH = 10;
+  private static final int DEEP_GRAPH_CHILDREN_COUNT = 4;
+
+  @Test
+  @Timeout(value = 300)
+  void test_recursive_comparison_of_1m_nodes_graph() {
+    // GIVEN
+    Node actual = graphOf1mNodes();
+    Node expected = graphOf1mNodes();
+    // children referencing the root create cycles and make the comparison look up already visited nodes
+    actual.children.forEach(child -> child.children.add(actual));
+    expected.children.forEach(child -> child.children.add(expected));
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 300)
+  void test_recursive_comparison_of_10_levels_deep_1m_nodes_graph() {
+    // GIVEN
+    Node actual = deepGraph(0, DEEP_GRAPH_DEPTH);
+    Node expected = deepGraph(0, DEEP_GRAPH_DEPTH);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringFieldsMatchingRegexes(".*ignored")
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 60)
+  void test_recursive_comparison_ignoring_collection_order_of_100k_elements() {
+    // GIVEN
+    List<Node> actual = new ArrayList<>();
+    List<Node> expected = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      actual.add(new HashedNode(i));
+      expected.add(new HashedNode(i));
+    }
+    Collections.shuffle(expected, new Random(0));
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  private static Node graphOf1mNodes() {
+    Node root = new Node(0);
+    for (int i = 0; i < CHILDREN_COUNT; i++) {
+      Node child = new Node(i);
+      for (int j = 0; j < CHILDREN_COUNT; j++) {
+        child.children.add(new Node(j));
+      }
+      root.children.add(child);
+    }
+    return root;
+  }
+
+  // 4^10 leaves, about 1.4 million nodes
+  private static Node deepGraph(int value, int depth) {
+    Node node = new Node(value);
+    if (depth == 0) return node;
+    for (int i = 0; i < DEEP_GRAPH_CHILDREN_COUNT; i++) {
+      node.children.add(deepGraph(i, depth - 1));
+    }
+    return node;
+  }
+
+  static class Node {
+    final int value;
+    final List<Node> children = new ArrayList<>();
+
+    Node(int value) {
+      this.value = value;
+    }
+  }
+
+  static class HashedNode extends Node {
+
+    HashedNode(int value) {
+      super(value);
+    }
+
+    @Override
+    public int hashCode() {
+      return value;
+    }
+  }
+
+}
@@ -14,6 +14,7 @@ package org.assertj.tests.core.perf;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.setRemoveAssertJRelatedElementsFromStackTrace;
@@ -42,6 +43,7 @@ import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.data.MapEntry;
@@ -49,8 +51,8 @@ import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 /**
  * results in 3.9.0  : ~3000ms
@@ -59,10 +61,15 @@ import org.junit.jupiter.api.Test;
  * results in 3.10.0 with Raphael changes < 1.8.10: ~5500ms
  * results in 3.10.0 with 1.8.10: ~5100ms
  * results in 3.10.0 with 1.8.11: ~5000ms
+ * <p>
+ * The failure heavy tests ensure that handling a failing soft assertion does not depend on the stack depth, it used to
+ * walk the whole stack to detect nested soft assertion calls.
  */
-@Disabled
 class SoftAssertionsPerfTest {
 
+  private static final int FAILURES_COUNT = 5_000;
+  private static final int STACK_DEPTH = 500;
+
   private SoftAssertions softly;
 
   private CartoonCharacter homer;
@@ -73,19 +80,14 @@ class SoftAssertionsPerfTest {
 
   private Map<String, Object> iterableMap;
 
-  private static long start;
-
   @BeforeAll
   static void beforeAll() {
     setRemoveAssertJRelatedElementsFromStackTrace(false);
-
-    start = System.currentTimeMillis();
   }
 
   @AfterAll
   static void afterAll() {
-    long duration = System.currentTimeMillis() - start;
-    System.out.println("SoftAssertionsTest execution time (ms): " + duration);
+    setRemoveAssertJRelatedElementsFromStackTrace(true);
   }
 
   @BeforeEach
@@ -145,6 +147,41 @@ class SoftAssertionsPerfTest {
     softly.assertAll();
   }
 
+  @Test
+  @Timeout(value = 5)
+  void should_collect_many_failures() {
+    for (int i = 0; i < FAILURES_COUNT; i++) {
+      softly.assertThat(i).isEqualTo(i + 1);
+    }
+    assertThat(softly.errorsCollected()).hasSize(FAILURES_COUNT);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void should_collect_many_failures_of_nested_proxied_calls_in_a_deep_stack() {
+    inDeepStack(STACK_DEPTH, () -> {
+      for (int i = 0; i < FAILURES_COUNT; i++) {
+        // isFalse() calls isEqualTo(false), first() calls isNotEmpty(), all of them are proxied
+        softly.assertThat(true).isFalse();
+        softly.assertThat(emptyList()).first();
+      }
+    });
+    assertThat(softly.errorsCollected()).hasSize(2 * FAILURES_COUNT);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void should_collect_many_failures_of_concurrent_soft_assertions_per_thread() {
+    softly.collectAssertionErrorsPerThread();
+    IntStream.range(0, FAILURES_COUNT).parallel().forEach(i -> softly.assertThat(i).isEqualTo(i + 1));
+    assertThat(softly.errorsCollected()).hasSize(FAILURES_COUNT);
+  }
+
+  private static void inDeepStack(int depth, Runnable runnable) {
+    if (depth == 0) runnable.run();
+    else inDeepStack(depth - 1, runnable);
+  }
+
   @Test
   void should_return_success_of_last_assertion() {
     softly.assertThat(true).isFalse();
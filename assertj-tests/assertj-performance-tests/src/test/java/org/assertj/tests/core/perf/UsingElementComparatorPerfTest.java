@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that iterable assertions checking elements regardless of their order with an element comparator are
+ * O(N log N) rather than O(N^2) operations.
+ * <p>
+ * Without sorting the elements according to the comparator, each value is compared to all the actual elements, for 1
+ * million elements that is about 1000 billion comparisons, whereas sorted elements are looked up in about 20 comparisons.
+ */
+class UsingElementComparatorPerfTest {
+
+  private static final int ELEMENTS_COUNT = 1_000_000;
+  private static final Comparator<String> CASE_INSENSITIVE_COMPARATOR = String::compareToIgnoreCase;
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsOnly_1mElements_usingElementComparator() {
+    assertThat(elements()).usingElementComparator(CASE_INSENSITIVE_COMPARATOR)
+                          .containsOnly(shuffledUpperCaseElements());
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactlyInAnyOrder_1mElements_usingElementComparator() {
+    assertThat(elements()).usingElementComparator(CASE_INSENSITIVE_COMPARATOR)
+                          .containsExactlyInAnyOrder(shuffledUpperCaseElements());
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsOnlyOnce_1mElements_usingElementComparator() {
+    assertThat(elements()).usingElementComparator(CASE_INSENSITIVE_COMPARATOR)
+                          .containsOnlyOnce(shuffledUpperCaseElements());
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_doesNotHaveDuplicates_1mElements_usingElementComparator() {
+    assertThat(elements()).usingElementComparator(CASE_INSENSITIVE_COMPARATOR)
+                          .doesNotHaveDuplicates();
+  }
+
+  private static List<String> elements() {
+    List<String> elements = new ArrayList<>();
+    for (int i = 0; i < ELEMENTS_COUNT; i++) {
+      elements.add("element " + i);
+    }
+    return elements;
+  }
+
+  private static String[] shuffledUpperCaseElements() {
+    List<String> elements = new ArrayList<>();
+    for (int i = 0; i < ELEMENTS_COUNT; i++) {
+      elements.add("ELEMENT " + i);
+    }
+    Collections.shuffle(elements, new Random(0));
+    return elements.toArray(new String[0]);
+  }
+
+}